@@ -0,0 +1,100 @@
+package app;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import modell.exceptions.BoardLoadException;
+import modell.exceptions.BoardSaveException;
+import modell.gameboard.BinaryBoardFormat;
+import modell.gameboard.BoardConfig;
+
+/**
+ * Command line entry point that converts JSON board files into binary board files.
+ * Every JSON board is written next to itself with the extension
+ * {@value BinaryBoardFormat#EXTENSION}, or into the output directory if one is given.
+ * A directory argument converts all JSON boards in it.
+ *
+ * Usage:
+ * <pre>{@code
+ *   java app.BoardConverterApp <board file or directory>... [--out <directory>]
+ * }</pre>
+ *
+ * @author didrik
+ * @version 1.0
+ */
+public class BoardConverterApp {
+  /** File name extension of JSON boards */
+  private static final String JSON_EXTENSION = ".json";
+
+  /**
+   * Converts the given boards and prints one line per board.
+   *
+   * @param args the board files or directories, optionally followed by an output directory
+   * @throws IOException if a directory cannot be listed or the output directory created
+   */
+  public static void main(String[] args) throws IOException {
+    List<Path> inputs = new ArrayList<>();
+    Path outputDirectory = null;
+    for (int i = 0; i < args.length; i++) {
+      if ("--out".equals(args[i]) && i + 1 < args.length) {
+        outputDirectory = Files.createDirectories(Path.of(args[++i]));
+      } else {
+        inputs.add(Path.of(args[i]));
+      }
+    }
+    if (inputs.isEmpty()) {
+      System.out.println("Usage: BoardConverterApp <board file or directory>..."
+          + " [--out <directory>]");
+      return;
+    }
+
+    int failed = 0;
+    for (Path json : jsonBoards(inputs)) {
+      Path target = (outputDirectory != null ? outputDirectory : json.toAbsolutePath().getParent())
+          .resolve(binaryName(json));
+      try {
+        BoardConfig config = BinaryBoardFormat.convert(json, target);
+        System.out.println(json + " -> " + target + " (" + config.getSpecialTileCount()
+            + " special tiles, " + Files.size(target) + " bytes)");
+      } catch (BoardLoadException | BoardSaveException e) {
+        failed++;
+        System.out.println(json + ": " + e.getMessage());
+      }
+    }
+    if (failed > 0) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Expands directories into the JSON boards they contain.
+   */
+  private static List<Path> jsonBoards(List<Path> inputs) throws IOException {
+    List<Path> boards = new ArrayList<>();
+    for (Path input : inputs) {
+      if (!Files.isDirectory(input)) {
+        boards.add(input);
+        continue;
+      }
+      try (Stream<Path> files = Files.list(input)) {
+        files.filter(file -> file.getFileName().toString().endsWith(JSON_EXTENSION))
+            .sorted()
+            .forEach(boards::add);
+      }
+    }
+    return boards;
+  }
+
+  private static String binaryName(Path json) {
+    String name = json.getFileName().toString();
+    if (name.endsWith(JSON_EXTENSION)) {
+      name = name.substring(0, name.length() - JSON_EXTENSION.length());
+    }
+    return name + BinaryBoardFormat.EXTENSION;
+  }
+
+  private BoardConverterApp() {}
+}
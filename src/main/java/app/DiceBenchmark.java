@@ -0,0 +1,93 @@
+package app;
+
+import modell.dice.DiceSet;
+import modell.dice.RandomSource;
+
+/**
+ * Command line entry point that compares the throughput of the dice rolling paths.
+ * Each path is warmed up before it is measured, and the results are printed as
+ * millions of rolls per second.
+ *
+ * Usage:
+ * <pre>{@code
+ *   java app.DiceBenchmark <dice> <rolls>
+ * }</pre>
+ *
+ * @author didrik
+ * @version 1.0
+ */
+public class DiceBenchmark {
+  /** Number of rolls written per bulk call */
+  private static final int BATCH = 4_096;
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param args the number of dice and the number of rolls per measurement
+   */
+  public static void main(String[] args) {
+    int numberOfDice = args.length > 0 ? Integer.parseInt(args[0]) : 2;
+    long rolls = args.length > 1 ? Long.parseLong(args[1]) : 100_000_000L;
+    DiceSet dice = new DiceSet(numberOfDice, RandomSource.seeded(1));
+    DiceSet sampled = new DiceSet(numberOfDice, RandomSource.seeded(1), true);
+
+    for (int round = 0; round < 2; round++) {
+      String label = round == 0 ? "warm-up " : "";
+      report(label + "roll()          ", rolls, perCall(dice, rolls));
+      report(label + "rollInto(sums)  ", rolls, bulk(dice, rolls, null));
+      report(label + "rollInto(faces) ", rolls,
+          bulk(dice, rolls, new int[BATCH * numberOfDice]));
+      report(label + "sampled roll()  ", rolls, perCall(sampled, rolls));
+      report(label + "sampled rollInto", rolls, bulk(sampled, rolls, null));
+    }
+  }
+
+  /**
+   * Rolls one sum per call.
+   *
+   * @return the elapsed time in nanoseconds
+   */
+  private static long perCall(DiceSet dice, long rolls) {
+    long start = System.nanoTime();
+    long checksum = 0;
+    for (long i = 0; i < rolls; i++) {
+      checksum += dice.roll();
+    }
+    return consume(checksum, start);
+  }
+
+  /**
+   * Rolls sums in batches into a reused array.
+   *
+   * @return the elapsed time in nanoseconds
+   */
+  private static long bulk(DiceSet dice, long rolls, int[] faces) {
+    int[] sums = new int[BATCH];
+    long start = System.nanoTime();
+    long checksum = 0;
+    for (long done = 0; done < rolls; done += BATCH) {
+      dice.rollInto(sums, 0, BATCH, faces);
+      checksum += sums[BATCH - 1];
+    }
+    return consume(checksum, start);
+  }
+
+  /**
+   * Keeps the checksum alive so the measured loop is not optimized away.
+   *
+   * @return the time elapsed since the start
+   */
+  private static long consume(long checksum, long start) {
+    long elapsed = System.nanoTime() - start;
+    if (checksum == 42) {
+      System.out.println();
+    }
+    return elapsed;
+  }
+
+  private static void report(String label, long rolls, long elapsedNanos) {
+    System.out.printf("%s %8.1f M rolls/s%n", label, rolls * 1e3 / elapsedNanos);
+  }
+
+  private DiceBenchmark() {}
+}
@@ -3,6 +3,10 @@ package app;
 import controller.SceneManager;
 import javafx.application.Application;
 import javafx.stage.Stage;
+import modell.events.AsyncGameEventSink;
+import modell.events.GameEventConsumer;
+import modell.events.GameEventSink;
+import modell.events.GameEvents;
 import view.scenes.StartMenuSceneView;
 
 /**
@@ -15,6 +19,9 @@ import view.scenes.StartMenuSceneView;
  *   <li>Displaying the primary stage with title</li>
  * </ul>
  *
+ * <p>Game events are discarded unless the application is started with
+ * {@code -Dladder.events=console}, which prints them from a background thread.
+ *
  * Usage:
  * <pre>{@code
  *   public static void main(String[] args) {
@@ -27,8 +34,15 @@ import view.scenes.StartMenuSceneView;
  */
 
 public class MainApp extends Application {
+  /** Background sink printing game events, or null when events are discarded */
+  private AsyncGameEventSink eventSink;
+
   @Override
   public void start(Stage stage) {
+    if ("console".equals(System.getProperty("ladder.events"))) {
+      eventSink = new AsyncGameEventSink(GameEventConsumer.console());
+      GameEvents.install(eventSink);
+    }
     SceneManager sceneManager = new SceneManager(stage);
     sceneManager.registerScene("startMenu", new StartMenuSceneView(sceneManager));
     sceneManager.switchTo("startMenu");
@@ -36,6 +50,14 @@ public class MainApp extends Application {
     stage.show();
   }
 
+  @Override
+  public void stop() {
+    if (eventSink != null) {
+      GameEvents.install(GameEventSink.NOOP);
+      eventSink.close();
+    }
+  }
+
   public static void main(String[] args) {
     launch(args);
   }
@@ -0,0 +1,102 @@
+package app;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import modell.dice.DiceSet;
+import modell.dice.DiceTape;
+import modell.gameboard.GameEngine;
+import modell.gameboard.LadderBoardType;
+import modell.gameboard.LadderGameBoardFactory;
+import modell.players.Player;
+import modell.players.PlayerToken;
+import modell.tiles.TileLogic;
+
+/**
+ * Command line entry point that replays a recorded game headlessly.
+ * The dice draw the numbers recorded on a {@link DiceTape}, so the game plays out
+ * exactly as it did when it was recorded. The board and the number of players are read
+ * from the tape. The replay can be repeated to compare the speed of the game rules
+ * between versions.
+ *
+ * Usage:
+ * <pre>{@code
+ *   java app.ReplayApp <tape file> [repetitions]
+ * }</pre>
+ *
+ * @author didrik
+ * @version 1.0
+ */
+public class ReplayApp {
+  /** Dice rolled per turn, as in the ladder game */
+  private static final int NUMBER_OF_DICE = 2;
+  /** Upper limit on the turns of a replayed game */
+  private static final int MAX_TURNS = 1_000_000;
+
+  /**
+   * Replays the tape and prints the outcome and the replay speed.
+   *
+   * @param args the tape file and optional repetitions
+   * @throws IOException if the tape cannot be read
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 1) {
+      System.out.println("Usage: ReplayApp <tape file> [repetitions]");
+      return;
+    }
+    DiceTape tape = DiceTape.load(Path.of(args[0]));
+    if (tape.getBoard().isEmpty()) {
+      System.out.println("Tape " + args[0] + " does not record its board and players");
+      return;
+    }
+    TileLogic board = loadBoard(tape.getBoard());
+    int players = tape.getSeatCount();
+    int repetitions = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+
+    GameEngine engine = replay(tape, board, players);
+    System.out.println("Winner: " + (engine.getWinner() == null
+        ? "none" : engine.getWinner().getName()) + " after " + engine.getTurnCount()
+        + " turns (" + tape.getDrawCount() + " draws on tape)");
+
+    long start = System.nanoTime();
+    for (int i = 0; i < repetitions; i++) {
+      replay(tape, board, players);
+    }
+    long elapsed = System.nanoTime() - start;
+    System.out.printf("%d replays in %.1f ms, %.1f us per game%n",
+        repetitions, elapsed / 1e6, elapsed / 1e3 / repetitions);
+  }
+
+  /**
+   * Plays the game recorded on the tape with fresh players.
+   *
+   * @return the finished engine
+   */
+  private static GameEngine replay(DiceTape tape, TileLogic board, int numberOfPlayers) {
+    List<Player> players = new ArrayList<>();
+    for (int seat = 0; seat < numberOfPlayers; seat++) {
+      players.add(new Player("Player " + (seat + 1), PlayerToken.DEFAULT));
+    }
+    GameEngine engine = new GameEngine(board, players, new DiceSet(NUMBER_OF_DICE, tape.replay()));
+    engine.playToEnd(MAX_TURNS);
+    return engine;
+  }
+
+  /**
+   * Loads a built-in board by type name, or a board file by name.
+   *
+   * @return the board
+   */
+  private static TileLogic loadBoard(String name) {
+    LadderGameBoardFactory factory = new LadderGameBoardFactory();
+    for (LadderBoardType type : LadderBoardType.values()) {
+      if (type.name().equalsIgnoreCase(name)) {
+        return factory.getTemplate(type);
+      }
+    }
+    return factory.getFileTemplate(name);
+  }
+
+  private ReplayApp() {}
+}
@@ -0,0 +1,63 @@
+package app;
+
+import modell.gameboard.LadderBoardType;
+import modell.gameboard.LadderGameBoardFactory;
+import modell.simulation.MonteCarloSimulator;
+import modell.simulation.SimulationResult;
+import modell.tiles.TileLogic;
+
+/**
+ * Command line entry point that prints board statistics from simulated games.
+ * Every built-in board type is simulated, followed by any board files given on the
+ * command line.
+ *
+ * Usage:
+ * <pre>{@code
+ *   java app.SimulationApp <games> <players> [board files in boards/...]
+ * }</pre>
+ *
+ * @author didrik
+ * @version 1.0
+ */
+public class SimulationApp {
+  /** Games played per board when no count is given */
+  private static final long DEFAULT_GAMES = 1_000_000;
+  /** Players per game when no count is given */
+  private static final int DEFAULT_PLAYERS = 2;
+  /** Dice rolled per turn, as in the ladder game */
+  private static final int NUMBER_OF_DICE = 2;
+
+  /**
+   * Runs the simulations and prints one report per board.
+   *
+   * @param args the number of games, the number of players and optional board file names
+   */
+  public static void main(String[] args) {
+    long games = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_GAMES;
+    int players = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PLAYERS;
+    LadderGameBoardFactory factory = new LadderGameBoardFactory();
+
+    for (LadderBoardType type : LadderBoardType.values()) {
+      report(type.name(), factory.getTemplate(type), games, players);
+    }
+    for (int i = 2; i < args.length; i++) {
+      report(args[i], factory.getFileTemplate(args[i]), games, players);
+    }
+  }
+
+  /**
+   * Simulates one board and prints its report.
+   *
+   * @param name the name of the board
+   * @param board the board to simulate
+   * @param games the number of games to play
+   * @param players the number of players per game
+   */
+  private static void report(String name, TileLogic board, long games, int players) {
+    SimulationResult result = new MonteCarloSimulator(board, players, NUMBER_OF_DICE).run(games);
+    System.out.println("== " + name + " ==");
+    System.out.print(result);
+  }
+
+  private SimulationApp() {}
+}
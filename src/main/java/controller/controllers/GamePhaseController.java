@@ -1,7 +1,15 @@
 package controller.controllers;
 
+import controller.diagnostics.PhaseMetrics;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 import modell.gameboard.GamePhase;
 
 /**
@@ -10,6 +18,25 @@ import modell.gameboard.GamePhase;
  * phases of the game (IDLE, ROLL_DICE, MOVE_PLAYER, SPECIAL_TILE) and their
  * associated actions.
  *
+ * <p>Phases are scheduled through a queue rather than by calling each other: starting a
+ * phase only queues it, and the queue is drained in a loop on the UI thread. A chain of
+ * phases that finish at once therefore runs one after another instead of nesting on the
+ * call stack.
+ *
+ * <p>A phase can be split into model work and rendering. The model work runs on the
+ * model executor, off the UI thread, and its result is handed to the rendering on the UI
+ * executor. As soon as a phase's model work is done, the model work of the phase after
+ * it is started as well, so it is computed while the current phase is still animating.
+ * Prefetching stops at {@link GamePhase#IDLE}, which waits for the user. Rendering must
+ * therefore use only the result it is given, never read the model directly.
+ *
+ * <p>If the model work of a phase fails, the phase is not rendered. The controller drops
+ * any queued work, returns to {@link GamePhase#IDLE} and reports the failure to its error
+ * handler, so the game can show it and let the user carry on.
+ *
+ * <p>The start of every phase is reported to a {@link PhaseMetrics}, which records how
+ * long each phase and each turn takes when recording is switched on.
+ *
  * @author Sondre Odberg
  * @version 1.0
  */
@@ -18,27 +45,118 @@ public class GamePhaseController {
   private GamePhase currentPhase = GamePhase.IDLE;
 
   /** Map of game phases to their associated actions. */
-  private final Map<GamePhase, Runnable> phaseActions = new EnumMap<>(GamePhase.class);
+  private final Map<GamePhase, PhaseAction<?>> phaseActions = new EnumMap<>(GamePhase.class);
+
+  /** Phases waiting to be started, in order. */
+  private final Deque<GamePhase> pendingPhases = new ArrayDeque<>();
+
+  /** Whether the queue is being drained further up the call stack. */
+  private boolean draining;
+
+  /** Phase whose model work has been started ahead of time, or null. */
+  private GamePhase prefetchedPhase;
+
+  /** Result of the model work started ahead of time. */
+  private CompletableFuture<?> prefetchedResult;
+
+  /** Handler that failed phases are reported to, or null to throw the failure. */
+  private BiConsumer<GamePhase, Throwable> errorHandler;
+
+  /** Metrics that phase durations are recorded in. */
+  private final PhaseMetrics metrics;
+
+  /** Executor the model work of the phases runs on. */
+  private final Executor modelExecutor;
+
+  /** Executor the rendering of the phases runs on. */
+  private final Executor uiExecutor;
+
+  /**
+   * Creates a phase controller that records into the shared {@link PhaseMetrics} and
+   * runs all work on the calling thread.
+   */
+  public GamePhaseController() {
+    this(PhaseMetrics.shared());
+  }
+
+  /**
+   * Creates a phase controller that records into the given metrics and runs all work on
+   * the calling thread.
+   *
+   * @param metrics the metrics to record phase durations in
+   * @throws IllegalArgumentException if the metrics are null
+   */
+  public GamePhaseController(PhaseMetrics metrics) {
+    this(metrics, Runnable::run, Runnable::run);
+  }
+
+  /**
+   * Creates a phase controller.
+   *
+   * @param metrics the metrics to record phase durations in
+   * @param modelExecutor the executor to run model work on; it should run tasks one at a
+   *        time, in order
+   * @param uiExecutor the executor to run rendering on, such as {@code Platform::runLater}
+   * @throws IllegalArgumentException if any argument is null
+   */
+  public GamePhaseController(PhaseMetrics metrics, Executor modelExecutor,
+                             Executor uiExecutor) {
+    if (metrics == null || modelExecutor == null || uiExecutor == null) {
+      throw new IllegalArgumentException("Phase metrics and executors cannot be null");
+    }
+    this.metrics = metrics;
+    this.modelExecutor = modelExecutor;
+    this.uiExecutor = uiExecutor;
+  }
 
   /**
    * Registers an action to be executed when a specific game phase is active.
+   * The action runs on the thread that starts the phase and is responsible for calling
+   * {@link #nextPhase()} when it is done.
    *
    * @param phase The game phase to associate with the action
    * @param action The runnable action to execute during the phase
    */
   public void registerPhaseAction(GamePhase phase, Runnable action) {
-    phaseActions.put(phase, action);
+    phaseActions.put(phase, new PhaseAction<Void>(null, (ignored, done) -> action.run()));
+  }
+
+  /**
+   * Registers a phase that is split into model work and rendering.
+   * The model work runs on the model executor; its result is passed to the rendering on
+   * the UI executor, together with a callback that advances to the next phase.
+   *
+   * @param phase the game phase to associate with the work
+   * @param model the model work, which returns what the rendering needs
+   * @param render the rendering, which calls the callback when it is done
+   * @param <T> the type of the model work's result
+   */
+  public <T> void registerPhase(GamePhase phase, Supplier<T> model,
+                                BiConsumer<T, Runnable> render) {
+    phaseActions.put(phase, new PhaseAction<>(model, render));
+  }
+
+  /**
+   * Sets the handler that phases whose model work fails are reported to.
+   * The handler runs where the phase would have been rendered, after the controller has
+   * returned to {@link GamePhase#IDLE}. Without a handler, the failure is thrown as an
+   * {@link IllegalStateException} from there.
+   *
+   * @param handler the handler, given the failed phase and the cause, or null to throw
+   */
+  public void setErrorHandler(BiConsumer<GamePhase, Throwable> handler) {
+    this.errorHandler = handler;
   }
 
   /**
    * Starts the current game phase by executing its associated action.
-   * If no action is registered for the current phase, nothing happens.
+   * If a phase is already being started further up the call stack, the phase is queued
+   * and started once that one returns. If no action is registered for the current
+   * phase, nothing happens.
    */
   public void startPhase() {
-    Runnable action = phaseActions.get(currentPhase);
-    if (action != null) {
-      action.run();
-    }
+    pendingPhases.add(currentPhase);
+    drain();
   }
 
   /**
@@ -46,25 +164,158 @@ public class GamePhaseController {
    * The phase sequence is: IDLE -> ROLL_DICE -> MOVE_PLAYER -> SPECIAL_TILE -> IDLE
    */
   public void nextPhase() {
-    switch (currentPhase) {
-      case IDLE:
-        currentPhase = GamePhase.ROLL_DICE;
-        break;
+    currentPhase = following(currentPhase);
+    startPhase();
+  }
 
-      case ROLL_DICE:
-        currentPhase = GamePhase.MOVE_PLAYER;
-        break;
+  /**
+   * Returns the phase that comes after the given one.
+   *
+   * @param phase the current phase
+   * @return the next phase in the sequence
+   */
+  private static GamePhase following(GamePhase phase) {
+    return switch (phase) {
+      case IDLE -> GamePhase.ROLL_DICE;
+      case ROLL_DICE -> GamePhase.MOVE_PLAYER;
+      case MOVE_PLAYER -> GamePhase.SPECIAL_TILE;
+      case SPECIAL_TILE -> GamePhase.IDLE;
+    };
+  }
 
-      case MOVE_PLAYER:
-        currentPhase = GamePhase.SPECIAL_TILE;
-        break;
+  /**
+   * Starts queued phases until the queue is empty. A phase that finishes at once queues
+   * the next phase, which this loop then starts, instead of starting it itself.
+   */
+  private void drain() {
+    if (draining) {
+      return;
+    }
+    draining = true;
+    try {
+      GamePhase phase;
+      while ((phase = pendingPhases.poll()) != null) {
+        run(phase);
+      }
+    } finally {
+      draining = false;
+    }
+  }
 
-      case SPECIAL_TILE:
-        currentPhase = GamePhase.IDLE;
-        break;
+  /**
+   * Starts a phase: runs or picks up its model work and hands the result to its rendering.
+   *
+   * @param phase the phase to start
+   */
+  private void run(GamePhase phase) {
+    metrics.phaseStarted(phase);
+    PhaseAction<?> action = phaseActions.get(phase);
+    if (action == null) {
+      return;
+    }
+    if (action.model() == null) {
+      action.render().accept(null, this::nextPhase);
+      return;
+    }
+    CompletableFuture<?> result = phase == prefetchedPhase
+        ? prefetchedResult
+        : CompletableFuture.supplyAsync(action.model(), modelExecutor);
+    prefetchedPhase = null;
+    prefetchedResult = null;
+    renderWhenReady(phase, action, result);
+  }
 
-      default:
+  /**
+   * Renders a phase once its model work is done. Work that is already done is rendered
+   * right away on the calling thread; otherwise the rendering is handed to the UI executor
+   * when the work completes.
+   */
+  @SuppressWarnings("unchecked")
+  private <T> void renderWhenReady(GamePhase phase, PhaseAction<T> action,
+                                   CompletableFuture<?> result) {
+    CompletableFuture<T> typed = (CompletableFuture<T>) result;
+    if (typed.isDone()) {
+      render(phase, action, typed);
+      return;
     }
-    startPhase();
+    typed.whenComplete((value, error) ->
+        uiExecutor.execute(() -> render(phase, action, typed)));
+  }
+
+  /**
+   * Starts the model work of the following phase and renders this one.
+   *
+   * @throws IllegalStateException if the model work of the phase failed and no error
+   *         handler is set
+   */
+  private <T> void render(GamePhase phase, PhaseAction<T> action, CompletableFuture<T> result) {
+    T value;
+    try {
+      value = result.join();
+    } catch (CompletionException e) {
+      fail(phase, e.getCause());
+      return;
+    }
+    prefetch(following(phase));
+    action.render().accept(value, this::nextPhase);
+  }
+
+  /**
+   * Abandons a phase whose model work failed: drops queued phases, returns to
+   * {@link GamePhase#IDLE} and reports the failure.
+   *
+   * @throws IllegalStateException if no error handler is set
+   */
+  private void fail(GamePhase phase, Throwable cause) {
+    pendingPhases.clear();
+    prefetchedPhase = null;
+    prefetchedResult = null;
+    currentPhase = GamePhase.IDLE;
+    if (errorHandler == null) {
+      throw new IllegalStateException("Phase " + phase + " failed", cause);
+    }
+    errorHandler.accept(phase, cause);
+  }
+
+  /**
+   * Starts the model work of a phase ahead of time, unless the phase waits for the user.
+   *
+   * @param phase the phase to prepare
+   */
+  private void prefetch(GamePhase phase) {
+    PhaseAction<?> action = phaseActions.get(phase);
+    if (phase == GamePhase.IDLE || action == null || action.model() == null) {
+      return;
+    }
+    prefetchedPhase = phase;
+    prefetchedResult = CompletableFuture.supplyAsync(action.model(), modelExecutor);
+  }
+
+  /**
+   * Returns the phase that was started last.
+   *
+   * @return the current phase
+   */
+  public GamePhase getCurrentPhase() {
+    return currentPhase;
+  }
+
+  /**
+   * Returns the metrics that phase durations are recorded in.
+   *
+   * @return the phase metrics
+   */
+  public PhaseMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * The work of one phase: optional model work and the rendering of its result.
+   *
+   * @param model the model work, or null if the phase only renders
+   * @param render the rendering, given the model result and a callback to advance
+   * @param <T> the type of the model work's result
+   */
+  private record PhaseAction<T>(Supplier<T> model, BiConsumer<T, Runnable> render) {
   }
 }
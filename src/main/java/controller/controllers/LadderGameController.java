@@ -1,7 +1,13 @@
 package controller.controllers;
 
 import controller.SceneManager;
+import controller.diagnostics.PhaseMetrics;
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javafx.animation.TranslateTransition;
 import javafx.application.Platform;
 import javafx.geometry.Point2D;
@@ -13,9 +19,13 @@ import javafx.scene.layout.GridPane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.text.Text;
 import javafx.util.Duration;
+import modell.dice.DiceSet;
+import modell.dice.DiceTape;
+import modell.dice.RandomSource;
 import modell.gameboard.*;
 import modell.players.Player;
 import modell.tiles.LadderTileLogic;
+import modell.tiles.TileEffect;
 import modell.tiles.TileLogic;
 import view.ui.AnimationRenderer;
 import view.ui.GameStandingsDialog;
@@ -25,29 +35,52 @@ import view.ui.UiRenderer;
 
 /**
  * Controller for the "Snakes and Ladders" game scene.
- * This controller implements the game logic and UI management for the Snakes and Ladders game.
+ * The game rules are run by a headless {@link GameEngine}; this controller steps the
+ * engine through its phases and renders the result of each step.
  * It follows a phase-based approach with the following sequence:
  * IDLE → ROLL_DICE → MOVE_PLAYER → SPECIAL_TILE → IDLE
  *
  * <p></p>
+ * Each phase is split into a step of the engine, which runs on a background model
+ * thread, and the rendering of its result on the JavaFX thread. The engine step of the
+ * next phase runs while the current phase is still animating.
+ *
+ * <p></p>
  * The controller handles:
- * - Game state management
- * - Player turns and movement
+ * - Stepping the game engine from user input
  * - Dice rolling and animations
- * - Special tile effects
+ * - Animating player movement and special tile effects
+ * - Logging game events
+ * - Recording the dice on a {@link DiceTape}, so a finished game can be replayed
  * - UI updates and rendering
  * - Game save/load functionality
  *
+ * <p></p>
+ * In turbo mode the game plays itself at the speed of the engine: the next turn starts
+ * without waiting for the roll button, the dice and token animations are skipped, and the
+ * board is redrawn at most {@value #DEFAULT_TURBO_FRAME_RATE} times a second and when the
+ * game ends. Turbo mode is switched on with {@code -Dladder.turbo=true}, and the frame
+ * rate is set with {@code -Dladder.turbo.fps=<frames>}, where 0 redraws only at the end.
+ *
+ * <p></p>
+ * The dice tape of a finished game is saved only when asked for, with
+ * {@code -Dladder.replay.file=<file>}; the file is overwritten by every game.
+ *
  * @author Sondre Odberg
  * @version 1.0
  */
 public class LadderGameController extends AbstractGameController implements PhaseSetupHelper {
+  /** Number of board redraws per second in turbo mode, unless configured otherwise. */
+  public static final int DEFAULT_TURBO_FRAME_RATE = 30;
 
   /** The scene manager for handling scene transitions. */
   private final SceneManager manager;
 
-  /** The game board model. */
-  private Gameboard gameboard;
+  /** The engine running the game rules. */
+  private GameEngine engine;
+
+  /** Tape recording every dice draw of the current game. */
+  private DiceTape diceTape;
 
   /** Controller for managing UI elements and their visual representation. */
   private final UiElementController uiElementController = new UiElementController();
@@ -80,20 +113,41 @@ public class LadderGameController extends AbstractGameController implements Phas
   /** The starting tile of the game. */
   private StackPane startTile;
 
-  /** Index of the current player. */
-  private int currentPlayerIndex = 0;
-
   /** Flag indicating if the game has started. */
   private boolean gameStarted = false;
 
   /** List of players in order of finish. */
   private List<Player> standings = new ArrayList<>();
 
-  /** The result of the last dice roll. */
-  private int lastDiceResult;
+  /** Whether turns are played without waiting and without animations. */
+  private boolean turbo = Boolean.getBoolean("ladder.turbo");
+
+  /** Time between board redraws in turbo mode, in nanoseconds. */
+  private long frameIntervalNanos =
+          frameInterval(Integer.getInteger("ladder.turbo.fps", DEFAULT_TURBO_FRAME_RATE));
+
+  /** Time of the last board redraw, from {@link System#nanoTime()}. */
+  private long lastFrameNanos = System.nanoTime();
+
+  /** Whether player positions changed since the last board redraw. */
+  private boolean boardDirty;
+
+  /** Log lines written by the engine and not yet handed to a phase result. */
+  private final StringBuilder pendingLog = new StringBuilder();
+
+  /** Log lines of rendered phases not yet appended to the log area, in turbo mode. */
+  private final StringBuilder shownLog = new StringBuilder();
+
+  /** Thread the engine steps of the phases run on. */
+  private final ExecutorService modelExecutor = Executors.newSingleThreadExecutor(task -> {
+    Thread thread = new Thread(task, "ladder-model");
+    thread.setDaemon(true);
+    return thread;
+  });
 
   /** Controller for managing game phases. */
-  private final GamePhaseController phaseController = new GamePhaseController();
+  private final GamePhaseController phaseController =
+          new GamePhaseController(PhaseMetrics.shared(), modelExecutor, Platform::runLater);
 
   /**
    * Constructs a new LadderGameController with the specified parameters.
@@ -119,6 +173,7 @@ public class LadderGameController extends AbstractGameController implements Phas
     die2View.setFitHeight(50);
 
     phaseController.registerPhaseAction(GamePhase.IDLE, this::idlePhase);
+    phaseController.setErrorHandler(this::phaseFailed);
     configurePhases(phaseController);
   }
 
@@ -179,7 +234,7 @@ public class LadderGameController extends AbstractGameController implements Phas
     if (!gameStarted) {
       throw new IllegalStateException("Game has not been started");
     }
-    return players.get(currentPlayerIndex);
+    return engine.getCurrentPlayer();
   }
 
   /**
@@ -192,7 +247,7 @@ public class LadderGameController extends AbstractGameController implements Phas
     if (!gameStarted) {
       throw new IllegalStateException("Game has not been started");
     }
-    currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
+    engine.nextTurn();
   }
 
   /**
@@ -205,8 +260,10 @@ public class LadderGameController extends AbstractGameController implements Phas
   public void launchGame(LadderBoardType boardType, String fileName) {
     LadderGameBoardFactory factory = new LadderGameBoardFactory();
     TileLogic logic = factory.createBoard(boardType, fileName);
-    gameboard = new Gameboard(logic);
-    players.forEach(p -> gameboard.getPlayerLogic().addPlayer(p.getName()));
+    diceTape = new DiceTape();
+    diceTape.setGame(fileName != null ? fileName : boardType.name(), players.size());
+    engine = new GameEngine(logic, players, new DiceSet(2, diceTape.record(RandomSource.create())));
+    engine.addListener(new GameLogListener());
 
     UiRenderer renderer = new UiRenderer();
     List<String> paths = uiElementController.getTileImagePaths(logic);
@@ -219,12 +276,9 @@ public class LadderGameController extends AbstractGameController implements Phas
             )
     );
     for (int i = 0; i < players.size(); i++) {
-      uiElementController.updatePlayerPosition(
-              i,
-              gameboard.getPlayerLogic().getPlayerList().get(i).getPlayerPosition()
-      );
+      uiElementController.updatePlayerPosition(i, players.get(i).getPlayerPosition());
     }
-    uiElementController.renderPlayers(tileNodes, startTile);
+    drawBoard();
 
     startGame();
     phaseController.startPhase();
@@ -234,22 +288,25 @@ public class LadderGameController extends AbstractGameController implements Phas
 
   /**
    * Animates the movement of a player token from one tile to another.
+   * In turbo mode the animation is skipped.
    *
+   * @param seat The seat index of the moving player
    * @param fromTileIndex The starting tile index
    * @param toTileIndex The destination tile index
    * @param onFinished Callback to execute when animation completes
    */
-  private void animateMovement(int fromTileIndex, int toTileIndex, Runnable onFinished) {
+  private void animateMovement(int seat, int fromTileIndex, int toTileIndex,
+                               Runnable onFinished) {
     StackPane from = tileNodes.get(fromTileIndex);
     StackPane to = tileNodes.get(toTileIndex);
-    if (from == null || to == null) {
+    if (turbo || from == null || to == null) {
       onFinished.run();
       return;
     }
 
 
     ImageView token = new ImageView(
-            ResourceLoader.getPlayerIcon("player" + currentPlayerIndex + ".png")
+            ResourceLoader.getPlayerIcon("player" + seat + ".png")
     );
     token.setFitWidth(24);
     token.setFitHeight(24);
@@ -276,114 +333,355 @@ public class LadderGameController extends AbstractGameController implements Phas
   /**
    * Handles the idle phase of the game.
    * Enables the roll dice button and sets up the next phase transition.
+   * In turbo mode the next turn starts right away.
    */
   public void idlePhase() {
-    rollDiceButton.setDisable(false);
+    if (turbo && gameStarted) {
+      rollDiceButton.setDisable(true);
+      phaseController.nextPhase();
+      return;
+    }
+    waitForRoll();
+  }
+
+  /** Enables the roll dice button, which starts the next turn. */
+  private void waitForRoll() {
     rollDiceButton.setOnAction(e -> {
       rollDiceButton.setDisable(true);
       phaseController.nextPhase(); // → ROLL_DICE
     });
+    rollDiceButton.setDisable(false);
   }
 
   /**
-   * Handles the dice rolling phase.
-   * Animates the dice roll and updates the UI with the results.
+   * Writes a phase whose engine step failed to the game log and lets the player roll
+   * again, also in turbo mode, so a failing step does not repeat by itself.
    */
-  @Override
-  public void rollDicePhase() {
+  private void phaseFailed(GamePhase phase, Throwable cause) {
+    appendLog(takeLog() + "Could not play " + phase + ": " + cause.getMessage() + "\n");
+    flushLog();
+    waitForRoll();
+  }
 
-    die1View.setVisible(true);
-    die2View.setVisible(true);
+  /**
+   * Switches turbo mode on or off. Switching it on while the game waits for a roll starts
+   * the next turn; switching it off draws the changes that were skipped.
+   *
+   * @param turbo true to play turns without waiting and without animations
+   */
+  public void setTurbo(boolean turbo) {
+    this.turbo = turbo;
+    if (!turbo) {
+      if (boardDirty) {
+        drawBoard();
+      }
+      flushLog();
+    } else if (gameStarted && !rollDiceButton.isDisabled()) {
+      rollDiceButton.fire();
+    }
+  }
+
+  /**
+   * Returns whether turbo mode is on.
+   *
+   * @return true if turns are played without waiting and without animations
+   */
+  public boolean isTurbo() {
+    return turbo;
+  }
 
-    AnimationRenderer.playDiceRoll(die1View, die2View, (a, b) -> {
+  /**
+   * Sets how often the board is redrawn in turbo mode.
+   *
+   * @param framesPerSecond the number of redraws per second, or 0 to redraw only when the
+   *        game ends
+   * @throws IllegalArgumentException if the frame rate is negative
+   */
+  public void setTurboFrameRate(int framesPerSecond) {
+    frameIntervalNanos = frameInterval(framesPerSecond);
+  }
 
-      die1View.setImage(ResourceLoader.getDiceImage("die_" + a + ".png"));
-      die2View.setImage(ResourceLoader.getDiceImage("die_" + b + ".png"));
+  private static long frameInterval(int framesPerSecond) {
+    if (framesPerSecond < 0) {
+      throw new IllegalArgumentException("Frame rate cannot be negative");
+    }
+    return framesPerSecond == 0 ? Long.MAX_VALUE : 1_000_000_000L / framesPerSecond;
+  }
 
-      int total = a + b;
-      lastDiceResult = total;
+  /**
+   * Redraws the player tokens. In turbo mode the redraw is skipped until a frame is due,
+   * and the skipped changes are drawn with the next frame.
+   */
+  private void renderPlayers() {
+    if (turbo && System.nanoTime() - lastFrameNanos < frameIntervalNanos) {
+      boardDirty = true;
+      return;
+    }
+    drawBoard();
+  }
 
-      diceResultText.setText("Roll: " + a + " + " + b + " = " + total);
-      logArea.appendText(getCurrentPlayer().getName()
-              + " Threw: " + a + " + " + b + " = " + total + "\n");
+  /** Redraws the player tokens and appends the collected log lines at once. */
+  private void drawBoard() {
+    boardDirty = false;
+    lastFrameNanos = System.nanoTime();
+    uiElementController.renderPlayers(tileNodes, startTile);
+    flushLog();
+  }
 
-      phaseController.nextPhase();
-    });
+  /**
+   * Appends the log lines of a rendered phase. In turbo mode they are collected and
+   * appended with the next board redraw.
+   */
+  private void appendLog(String lines) {
+    shownLog.append(lines);
+    if (!turbo) {
+      flushLog();
+    }
+  }
+
+  /** Appends the collected log lines to the log area. */
+  private void flushLog() {
+    if (!shownLog.isEmpty()) {
+      logArea.appendText(shownLog.toString());
+      shownLog.setLength(0);
+    }
+  }
+
+  /**
+   * Takes the log lines the engine has written since the last call. The engine steps call
+   * this to carry their lines to the rendering, so a step that runs ahead of time is not
+   * logged before the phase before it has been shown.
+   */
+  private String takeLog() {
+    synchronized (pendingLog) {
+      String lines = pendingLog.toString();
+      pendingLog.setLength(0);
+      return lines;
+    }
   }
 
+  /**
+   * Registers the phases split into their engine step and their rendering, so the
+   * engine steps run off the JavaFX thread.
+   *
+   * @param controller The GamePhaseController to configure
+   */
+  @Override
+  public void configurePhases(GamePhaseController controller) {
+    controller.registerPhase(GamePhase.ROLL_DICE, this::rollDice, this::showRoll);
+    controller.registerPhase(GamePhase.MOVE_PLAYER, this::movePlayer, this::showMove);
+    controller.registerPhase(GamePhase.SPECIAL_TILE, this::applySpecialTile,
+            this::showSpecialTile);
+  }
+
+  /**
+   * Handles the dice rolling phase.
+   * Rolls the engine's dice and animates the roll until it settles on the rolled faces.
+   */
+  @Override
+  public void rollDicePhase() {
+    showRoll(rollDice(), phaseController::nextPhase);
+  }
+
+  /**
+   * Handles the move player phase.
+   * Moves the current player in the engine and animates the move.
+   */
   @Override
   public void movePlayerPhase() {
-    Player p = getCurrentPlayer();
-    int oldPos = p.getPlayerPosition();
-    int newPos = oldPos + lastDiceResult;
-    p.setPlayerPosition(newPos);
-    if (newPos >= 100) {
-      endGameWithStandings(p);
+    showMove(movePlayer(), phaseController::nextPhase);
+  }
+
+  /**
+   * Handles the special tile phase.
+   * Applies the effect of the landed square in the engine, animates any ladder
+   * and hands the turn to the player the engine selects.
+   */
+  @Override
+  public void specialTilePhase() {
+    showSpecialTile(applySpecialTile(), phaseController::nextPhase);
+  }
+
+  /** Rolls the engine's dice. */
+  private RollResult rollDice() {
+    int total = engine.rollDice();
+    DiceSet dice = engine.getDice();
+    return new RollResult(total, dice.getDie(0), dice.getDie(1), takeLog());
+  }
+
+  /** Animates a roll until it settles on the rolled faces, or shows them in turbo mode. */
+  private void showRoll(RollResult roll, Runnable done) {
+    appendLog(roll.log());
+    die1View.setVisible(true);
+    die2View.setVisible(true);
+
+    Runnable settled = () -> {
+      diceResultText.setText("Roll: " + roll.first() + " + " + roll.second()
+              + " = " + roll.total());
+      done.run();
+    };
+    if (turbo) {
+      AnimationRenderer.showDice(die1View, die2View, roll.first(), roll.second());
+      settled.run();
       return;
     }
+    AnimationRenderer.playDiceRoll(die1View, die2View, roll.first(), roll.second(), settled);
+  }
 
-    uiElementController.renderPlayers(tileNodes, startTile);
+  /** Moves the current player in the engine. */
+  private MoveResult movePlayer() {
+    int seat = engine.getCurrentSeat();
+    int from = engine.getCurrentPlayer().getPlayerPosition();
+    int to = engine.movePlayer();
+    return new MoveResult(seat, from, to, takeLog());
+  }
 
-    animateMovement(oldPos, newPos, () -> {
-      uiElementController.updatePlayerPosition(currentPlayerIndex, newPos);
-      uiElementController.renderPlayers(tileNodes, startTile);
-      logArea.appendText(p.getName() + "Moved to: " + newPos + "\n");
-      phaseController.nextPhase();
+  /** Animates a move of the current player. */
+  private void showMove(MoveResult move, Runnable done) {
+    appendLog(move.log());
+    renderPlayers();
+
+    animateMovement(move.seat(), move.from(), move.to(), () -> {
+      uiElementController.updatePlayerPosition(move.seat(), move.to());
+      renderPlayers();
+      done.run();
     });
   }
 
-  @Override
-  public void specialTilePhase() {
-    Player p = getCurrentPlayer();
+  /** Applies the effect of the landed square in the engine. */
+  private SpecialResult applySpecialTile() {
+    int seat = engine.getCurrentSeat();
+    Player p = engine.getCurrentPlayer();
     int landed = p.getPlayerPosition();
 
+    engine.applySpecialTile();
+    if (engine.isFinished()) {
+      return new SpecialResult(seat, landed, p.getPlayerPosition(), engine.getStandings(), null,
+              takeLog());
+    }
+    return new SpecialResult(seat, landed, p.getPlayerPosition(), null,
+            engine.getCurrentPlayer().getName(), takeLog());
+  }
 
-    gameboard.getGameboardLogic().handlePlayerLanding(p, gameboard.getTileLogic());
-    int target = p.getPlayerPosition();
+  /** Animates any ladder and shows whose turn it is, or ends the game. */
+  private void showSpecialTile(SpecialResult special, Runnable done) {
+    appendLog(special.log());
+    int seat = special.seat();
+    int target = special.target();
 
-    if (target >= 100) {
-      endGameWithStandings(p);
+    if (special.standings() != null) {
+      uiElementController.updatePlayerPosition(seat, target);
+      drawBoard();
+      endGameWithStandings(special.standings());
       return;
     }
 
-    if (target == landed) {
-      nextTurn();
-      currentPlayerText.setText(getCurrentPlayer().getName() + "'s turn");
-      phaseController.nextPhase();
+    if (target == special.landed()) {
+      currentPlayerText.setText(special.nextPlayer() + "'s turn");
+      done.run();
       return;
     }
 
-    uiElementController.renderPlayers(tileNodes, startTile);
-
-    animateMovement(landed, target, () -> {
-      uiElementController.updatePlayerPosition(currentPlayerIndex, target);
-      uiElementController.renderPlayers(tileNodes, startTile);
-      logArea.appendText(p.getName() + " Got effect on: " + target + "\n");
+    renderPlayers();
 
-
-      nextTurn();
-      currentPlayerText.setText(getCurrentPlayer().getName() + "'s turn");
-      phaseController.nextPhase();
+    animateMovement(seat, special.landed(), target, () -> {
+      uiElementController.updatePlayerPosition(seat, target);
+      renderPlayers();
+      currentPlayerText.setText(special.nextPlayer() + "'s turn");
+      done.run();
     });
   }
 
-  private void endGameWithStandings(Player winner) {
+  private void endGameWithStandings(List<Player> result) {
     rollDiceButton.setDisable(true);
-    List<Player> result = new ArrayList<>();
-    result.add(winner);
-    for (Player p : players) {
-      if (!p.equals(winner)) {
-        result.add(p);
-      }
-    }
+    modelExecutor.shutdown();
     standings = result;
+    saveDiceTape();
+    if (phaseController.getMetrics().isEnabled()) {
+      logArea.appendText("Phase timings:\n" + phaseController.getMetrics().getReport());
+    }
     Platform.runLater(() ->
             GameStandingsDialog.show(standings, () -> manager.switchTo("startMenu"))
     );
   }
 
+  /**
+   * Saves the dice tape of the finished game to the file named by
+   * {@code ladder.replay.file} and logs its location, so the game can be replayed with
+   * {@code app.ReplayApp}. Nothing is written when the property is not set.
+   */
+  private void saveDiceTape() {
+    String fileName = System.getProperty("ladder.replay.file");
+    if (fileName == null || fileName.isBlank()) {
+      return;
+    }
+    try {
+      Path file = Path.of(fileName);
+      diceTape.save(file);
+      logArea.appendText("Dice tape saved to: " + file + "\n");
+    } catch (IOException | InvalidPathException e) {
+      logArea.appendText("Could not save dice tape: " + e.getMessage() + "\n");
+    }
+  }
+
+  /**
+   * Writes the events of the game engine to the game log.
+   * The engine runs on the model thread, so the lines are collected there and handed to
+   * the rendering of the phase that wrote them.
+   */
+  private class GameLogListener implements GameEventListener {
+    @Override
+    public void onDiceRolled(Player player, int total) {
+      log(player.getName() + " Threw: " + total);
+    }
+
+    @Override
+    public void onPlayerMoved(Player player, int fromTile, int toTile) {
+      log(player.getName() + " Moved to: " + toTile);
+    }
+
+    @Override
+    public void onSpecialTile(Player player, TileEffect effect, int fromTile, int toTile) {
+      switch (effect) {
+        case EXTRA_THROW -> log(player.getName() + " Gets an extra throw");
+        case SKIP_NEXT_TURN -> log(player.getName() + " Skips next turn");
+        default -> log(player.getName() + " Got effect on: " + toTile);
+      }
+    }
+
+    @Override
+    public void onTurnSkipped(Player player) {
+      log(player.getName() + " Skips this turn");
+    }
+
+    /** Queues a line until the current engine step takes it with {@link #takeLog()}. */
+    private void log(String line) {
+      synchronized (pendingLog) {
+        pendingLog.append(line).append('\n');
+      }
+    }
+  }
+
+  /** Faces and total of a roll, and the lines it logged. */
+  private record RollResult(int total, int first, int second, String log) {
+  }
+
+  /** A move of a player from one tile to another, and the lines it logged. */
+  private record MoveResult(int seat, int from, int to, String log) {
+  }
+
+  /**
+   * Outcome of the special tile phase: where the player landed and ended up, either
+   * the standings if the game is over or the name of the player to move next, and the
+   * lines it logged.
+   */
+  private record SpecialResult(int seat, int landed, int target, List<Player> standings,
+                               String nextPlayer, String log) {
+  }
+
   @Override
   public void returnToMenu() {
+    modelExecutor.shutdown();
     manager.switchTo("startMenu");
   }
 
@@ -391,6 +689,10 @@ public class LadderGameController extends AbstractGameController implements Phas
     return phaseController;
   }
 
+  public DiceTape getDiceTape() {
+    return diceTape;
+  }
+
   // === Getters for SceneView ===
   public GridPane getBoardGrid()             {
     return boardGrid;
@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import javafx.scene.layout.StackPane;
+import modell.tiles.LadderSnapshot;
 import modell.tiles.LadderTileLogic;
 import modell.tiles.TileLogic;
 import view.ui.PlayerRenderer;
@@ -56,8 +57,8 @@ public class UiElementController {
    */
   public String getTileImagePath(int tileNumber, TileLogic tileLogic) {
     if (tileLogic instanceof LadderTileLogic ladderLogic) {
-      Map<Integer, Integer> ladderMap = ladderLogic.getLadderMap();
-      int offset = ladderMap.getOrDefault(tileNumber, 0);
+      LadderSnapshot ladders = ladderLogic.getLadderSnapshot();
+      int offset = ladders.getLadderEffect(tileNumber);
 
       if (offset > 0) {
         return "ladder_up_bottom.png";
@@ -67,16 +68,12 @@ public class UiElementController {
         return "ladder_down_top.png";
       }
 
-      for (Map.Entry<Integer, Integer> entry : ladderMap.entrySet()) {
-        int start = entry.getKey();
-        int end = start + entry.getValue();
-
-        if (tileNumber == end && entry.getValue() > 0) {
-          return "ladder_up_top.png";
-        }
-        if (tileNumber == end && entry.getValue() < 0) {
-          return "ladder_down_bottom.png";
-        }
+      int start = ladders.getLadderStartEndingAt(tileNumber);
+      if (start != 0 && ladders.getLadderEffect(start) > 0) {
+        return "ladder_up_top.png";
+      }
+      if (start != 0 && ladders.getLadderEffect(start) < 0) {
+        return "ladder_down_bottom.png";
       }
     }
 
@@ -0,0 +1,158 @@
+package controller.diagnostics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of durations in log-linear buckets, in the style of an HDR histogram.
+ * Every power of two is split into {@value #SUB_BUCKETS} equal buckets, so a recorded
+ * value is known to within 12.5 percent however large it is, and the whole range of a
+ * {@code long} fits in a few hundred counters. Recording is a bucket computation and one
+ * atomic increment, cheap enough to run on every phase of every turn; the counters can be
+ * read from another thread, for example over JMX, while they are recorded.
+ *
+ * @author Sondre Odberg
+ * @version 1.0
+ */
+public final class LatencyHistogram {
+  /** Number of bits of a value kept below its highest bit */
+  private static final int SUB_BITS = 3;
+  /** Number of buckets per power of two */
+  private static final int SUB_BUCKETS = 1 << SUB_BITS;
+  /** Number of buckets covering every non-negative long */
+  private static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS;
+
+  /** Number of recorded values per bucket */
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  /** Number of recorded values */
+  private final AtomicLong count = new AtomicLong();
+  /** Sum of the recorded values */
+  private final AtomicLong total = new AtomicLong();
+  /** Largest recorded value */
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * Records a duration.
+   *
+   * @param nanos the duration in nanoseconds; negative values are recorded as 0
+   */
+  public void record(long nanos) {
+    long value = Math.max(nanos, 0);
+    counts.incrementAndGet(bucketOf(value));
+    count.incrementAndGet();
+    total.addAndGet(value);
+    max.accumulateAndGet(value, Math::max);
+  }
+
+  /**
+   * Returns the bucket a value falls in.
+   *
+   * @param value a non-negative value
+   * @return the bucket index
+   */
+  static int bucketOf(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+    return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+  }
+
+  /**
+   * Returns the largest value that falls in a bucket.
+   *
+   * @param bucket the bucket index
+   * @return the bucket's upper bound
+   */
+  static long upperBound(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int shift = bucket / SUB_BUCKETS - 1;
+    long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+
+  /**
+   * Returns the number of recorded values.
+   *
+   * @return the count
+   */
+  public long getCount() {
+    return count.get();
+  }
+
+  /**
+   * Returns the mean of the recorded values.
+   *
+   * @param unit the unit to return the mean in
+   * @return the mean, or 0 if nothing was recorded
+   */
+  public double getMean(TimeUnit unit) {
+    long recorded = count.get();
+    return recorded == 0 ? 0 : (double) total.get() / recorded / unit.toNanos(1);
+  }
+
+  /**
+   * Returns the largest recorded value.
+   *
+   * @param unit the unit to return the value in
+   * @return the maximum, or 0 if nothing was recorded
+   */
+  public double getMax(TimeUnit unit) {
+    return (double) max.get() / unit.toNanos(1);
+  }
+
+  /**
+   * Returns an upper bound of the value below which the given share of the recorded
+   * values fall, accurate to the bucket width.
+   *
+   * @param quantile the share of values, between 0 and 1
+   * @param unit the unit to return the value in
+   * @return the percentile, or 0 if nothing was recorded
+   * @throws IllegalArgumentException if the quantile is outside 0 to 1
+   */
+  public double getPercentile(double quantile, TimeUnit unit) {
+    if (quantile < 0 || quantile > 1) {
+      throw new IllegalArgumentException("Quantile must be between 0 and 1, got: " + quantile);
+    }
+    long recorded = count.get();
+    if (recorded == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(quantile * recorded));
+    long seen = 0;
+    for (int bucket = 0; bucket < BUCKETS; bucket++) {
+      seen += counts.get(bucket);
+      if (seen >= rank) {
+        return (double) Math.min(upperBound(bucket), max.get()) / unit.toNanos(1);
+      }
+    }
+    return getMax(unit);
+  }
+
+  /**
+   * Clears all recorded values.
+   */
+  public void reset() {
+    for (int bucket = 0; bucket < BUCKETS; bucket++) {
+      counts.set(bucket, 0);
+    }
+    count.set(0);
+    total.set(0);
+    max.set(0);
+  }
+
+  /**
+   * Returns a one-line summary in milliseconds.
+   *
+   * @return the count, mean, median, 99th percentile and maximum
+   */
+  @Override
+  public String toString() {
+    TimeUnit ms = TimeUnit.MILLISECONDS;
+    return String.format("n=%d mean=%.2fms p50=%.2fms p99=%.2fms max=%.2fms",
+        getCount(), getMean(ms), getPercentile(0.5, ms), getPercentile(0.99, ms), getMax(ms));
+  }
+}
@@ -0,0 +1,187 @@
+package controller.diagnostics;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import modell.gameboard.GamePhase;
+
+/**
+ * Records how long each game phase takes and how long a whole turn takes, from the click
+ * that rolls the dice until the game is back in {@link GamePhase#IDLE} for the next
+ * player. A phase lasts from the moment it starts until the next phase starts, so it
+ * includes the animations it waits for.
+ *
+ * <p>Durations go into {@link LatencyHistogram}s and can be read and reset over JMX under
+ * {@value #OBJECT_NAME}, where recording can also be switched on and off at runtime.
+ * Recording is off unless the application is started with {@code -Dladder.metrics=true};
+ * while it is off, a phase change costs a single field read.
+ *
+ * @author Sondre Odberg
+ * @version 1.0
+ */
+public final class PhaseMetrics implements PhaseMetricsMXBean {
+  /** Name the shared instance is registered under in the platform MBean server */
+  public static final String OBJECT_NAME = "boardgame:type=PhaseMetrics";
+  /** Name of the whole-turn histogram in reports */
+  private static final String TURN = "TURN";
+
+  /** Instance shared by the game controllers, created on first use */
+  private static PhaseMetrics shared;
+
+  /** Duration histogram per phase */
+  private final Map<GamePhase, LatencyHistogram> phases = new EnumMap<>(GamePhase.class);
+  /** Histogram of whole turns */
+  private final LatencyHistogram turns = new LatencyHistogram();
+  /** Whether durations are recorded */
+  private volatile boolean enabled;
+
+  /** The phase that started last, or null if none is being timed */
+  private GamePhase currentPhase;
+  /** Time the current phase started */
+  private long phaseStart;
+  /** Time the current turn started, or 0 outside a turn */
+  private long turnStart;
+
+  /**
+   * Creates a set of empty histograms.
+   *
+   * @param enabled whether to start recording right away
+   */
+  public PhaseMetrics(boolean enabled) {
+    for (GamePhase phase : GamePhase.values()) {
+      phases.put(phase, new LatencyHistogram());
+    }
+    this.enabled = enabled;
+  }
+
+  /**
+   * Returns the instance shared by the game controllers, registering it with JMX when it
+   * is first created.
+   *
+   * @return the shared metrics
+   */
+  public static synchronized PhaseMetrics shared() {
+    if (shared == null) {
+      shared = new PhaseMetrics(Boolean.getBoolean("ladder.metrics"));
+      try {
+        ManagementFactory.getPlatformMBeanServer()
+            .registerMBean(shared, new ObjectName(OBJECT_NAME));
+      } catch (JMException | SecurityException e) {
+        // Metrics still work in process when JMX is unavailable
+      }
+    }
+    return shared;
+  }
+
+  /**
+   * Marks the start of a phase, which ends the phase before it.
+   * Must be called from the thread that drives the phases.
+   *
+   * @param phase the phase that starts
+   */
+  public void phaseStarted(GamePhase phase) {
+    if (!enabled) {
+      currentPhase = null;
+      turnStart = 0;
+      return;
+    }
+    long now = System.nanoTime();
+    if (currentPhase != null) {
+      phases.get(currentPhase).record(now - phaseStart);
+    }
+    if (phase == GamePhase.ROLL_DICE) {
+      turnStart = now;
+    } else if (phase == GamePhase.IDLE && turnStart != 0) {
+      turns.record(now - turnStart);
+      turnStart = 0;
+    }
+    currentPhase = phase;
+    phaseStart = now;
+  }
+
+  /**
+   * Returns the histogram of a phase.
+   *
+   * @param phase the phase
+   * @return the phase's histogram
+   */
+  public LatencyHistogram getPhaseHistogram(GamePhase phase) {
+    return phases.get(phase);
+  }
+
+  /**
+   * Returns the histogram of whole turns.
+   *
+   * @return the turn histogram
+   */
+  public LatencyHistogram getTurnHistogram() {
+    return turns;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  @Override
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  @Override
+  public Map<String, Long> getCounts() {
+    Map<String, Long> counts = new LinkedHashMap<>();
+    phases.forEach((phase, histogram) -> counts.put(phase.name(), histogram.getCount()));
+    counts.put(TURN, turns.getCount());
+    return counts;
+  }
+
+  @Override
+  public Map<String, Double> getMeanMillis() {
+    return collect(histogram -> histogram.getMean(TimeUnit.MILLISECONDS));
+  }
+
+  @Override
+  public Map<String, Double> getP99Millis() {
+    return collect(histogram -> histogram.getPercentile(0.99, TimeUnit.MILLISECONDS));
+  }
+
+  @Override
+  public Map<String, Double> getMaxMillis() {
+    return collect(histogram -> histogram.getMax(TimeUnit.MILLISECONDS));
+  }
+
+  /**
+   * Reads one statistic from every histogram.
+   *
+   * @param statistic the statistic to read
+   * @return the values keyed by histogram name
+   */
+  private Map<String, Double> collect(ToDoubleFunction<LatencyHistogram> statistic) {
+    Map<String, Double> values = new LinkedHashMap<>();
+    phases.forEach((phase, histogram) ->
+        values.put(phase.name(), statistic.applyAsDouble(histogram)));
+    values.put(TURN, statistic.applyAsDouble(turns));
+    return values;
+  }
+
+  @Override
+  public String getReport() {
+    StringBuilder report = new StringBuilder();
+    phases.forEach((phase, histogram) ->
+        report.append(String.format("%-12s %s%n", phase.name(), histogram)));
+    report.append(String.format("%-12s %s%n", TURN, turns));
+    return report.toString();
+  }
+
+  @Override
+  public void reset() {
+    phases.values().forEach(LatencyHistogram::reset);
+    turns.reset();
+  }
+}
@@ -0,0 +1,67 @@
+package controller.diagnostics;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link PhaseMetrics}, published over JMX as
+ * {@value PhaseMetrics#OBJECT_NAME}.
+ *
+ * @author Sondre Odberg
+ * @version 1.0
+ */
+public interface PhaseMetricsMXBean {
+
+  /**
+   * Returns whether durations are being recorded.
+   *
+   * @return true if recording is on
+   */
+  boolean isEnabled();
+
+  /**
+   * Turns recording on or off.
+   *
+   * @param enabled true to record durations
+   */
+  void setEnabled(boolean enabled);
+
+  /**
+   * Returns the number of recorded durations per phase and for whole turns.
+   *
+   * @return the counts keyed by histogram name
+   */
+  Map<String, Long> getCounts();
+
+  /**
+   * Returns the mean duration per phase and for whole turns.
+   *
+   * @return the means in milliseconds keyed by histogram name
+   */
+  Map<String, Double> getMeanMillis();
+
+  /**
+   * Returns the 99th percentile duration per phase and for whole turns.
+   *
+   * @return the percentiles in milliseconds keyed by histogram name
+   */
+  Map<String, Double> getP99Millis();
+
+  /**
+   * Returns the longest duration per phase and for whole turns.
+   *
+   * @return the maximums in milliseconds keyed by histogram name
+   */
+  Map<String, Double> getMaxMillis();
+
+  /**
+   * Returns a readable report with one line per histogram.
+   *
+   * @return the report
+   */
+  String getReport();
+
+  /**
+   * Clears all histograms.
+   */
+  void reset();
+}
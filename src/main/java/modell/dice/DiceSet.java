@@ -1,7 +1,10 @@
 package modell.dice;
 
+import java.nio.BufferOverflowException;
+import java.nio.IntBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Represents a collection of dice used in board games.
@@ -12,23 +15,45 @@ import java.util.List;
  * <p>The number of dice must be between {@value #MIN_DICE} and {@value #MAX_DICE}.
  * Each die generates random numbers between 1 and 6.
  *
+ * <p>Simulations that need many rolls at once can fill an array or buffer with
+ * {@link #rollInto(int[], int, int)} and its overloads, which draw all rolls in one
+ * primitive loop without touching the individual dice until the end.
+ *
+ * <p>A set created in sum-sampling mode only rolls totals: every total is drawn from the
+ * exact {@link SumDistribution} of the dice with a single random number, however many
+ * dice there are. Such a set does not report individual faces through {@link #getDie(int)};
+ * the user interface, which shows the faces, uses the default per-die mode.
+ *
+ * <p>All dice in a set roll from one {@link RandomSource}. Give the set a seeded source
+ * to make its rolls reproducible, and {@link #split()} it to roll on another thread.
+ *
  * <p>Example usage:
  * <pre>
  * DiceSet diceSet = new DiceSet(2);  // Create two dice
  * int total = diceSet.roll();        // Roll both dice and get sum
  * int firstDie = diceSet.getDie(0);  // Get first die's value
+ * DiceSet seeded = new DiceSet(2, RandomSource.seeded(42));  // Reproducible rolls
+ * DiceSet fast = new DiceSet(10, RandomSource.create(), true); // One draw per total
  * </pre>
  *
  * @author didrik
  * @version 1.0
  */
 public class DiceSet {
+  /** Number of faces on each die */
+  private static final int FACES = 6;
   /** Maximum number of dice allowed in the collection */
   private static final int MAX_DICE = 10;
   /** Minimum number of dice required */
   private static final int MIN_DICE = 1;
+  /** Highest sum a single roll of the largest allowed dice set can produce */
+  public static final int MAX_ROLL = MAX_DICE * FACES;
   /** List containing all dice in the collection */
   private final List<Die> dice;
+  /** Random source shared by all dice in the collection */
+  private final RandomSource random;
+  /** Distribution totals are sampled from in sum-sampling mode, or null in per-die mode */
+  private final SumDistribution sumDistribution;
 
   /**
    * Constructs a new collection of dice.
@@ -39,6 +64,32 @@ public class DiceSet {
    * @throws IllegalArgumentException if numberOfDice is less than {@value #MIN_DICE} or greater than {@value #MAX_DICE}
    */
   public DiceSet(int numberOfDice) {
+    this(numberOfDice, RandomSource.create());
+  }
+
+  /**
+   * Constructs a new collection of dice that roll from the given random source.
+   * The source should not be used by any other thread while the dice are rolled.
+   *
+   * @param numberOfDice the number of dice to create (between {@value #MIN_DICE} and {@value #MAX_DICE})
+   * @param random the source to draw rolls from
+   * @throws IllegalArgumentException if numberOfDice is out of range or the source is null
+   */
+  public DiceSet(int numberOfDice, RandomSource random) {
+    this(numberOfDice, random, false);
+  }
+
+  /**
+   * Constructs a new collection of dice, optionally in sum-sampling mode.
+   * In sum-sampling mode every total is drawn with a single random number from the
+   * exact distribution of the sum, and individual faces are not available.
+   *
+   * @param numberOfDice the number of dice to create (between {@value #MIN_DICE} and {@value #MAX_DICE})
+   * @param random the source to draw rolls from
+   * @param sumSampling true to sample totals directly instead of rolling each die
+   * @throws IllegalArgumentException if numberOfDice is out of range or the source is null
+   */
+  public DiceSet(int numberOfDice, RandomSource random, boolean sumSampling) {
     if (numberOfDice < MIN_DICE) {
       throw new IllegalArgumentException(
           "Number of dice must be at least " + MIN_DICE);
@@ -47,12 +98,27 @@ public class DiceSet {
       throw new IllegalArgumentException(
           "Number of dice cannot exceed " + MAX_DICE);
     }
+    if (random == null) {
+      throw new IllegalArgumentException("Random source cannot be null");
+    }
+    this.random = random;
+    this.sumDistribution = sumSampling ? SumDistribution.of(numberOfDice, FACES) : null;
     dice = new ArrayList<>();
     for (int i = 0; i < numberOfDice; i++) {
-      dice.add(new Die());
+      dice.add(new Die(random));
     }
   }
 
+  /**
+   * Creates a new set with the same number of dice that rolls from a stream split off
+   * this set's random source. The new set can be rolled on another thread.
+   *
+   * @return a new independent dice set
+   */
+  public DiceSet split() {
+    return new DiceSet(dice.size(), random.split(), sumDistribution != null);
+  }
+
   /**
    * Rolls all dice simultaneously and returns their sum.
    * Each die will generate a random number between 1 and 6.
@@ -61,6 +127,18 @@ public class DiceSet {
    * @return the sum of all dice rolls
    */
   public int roll() {
+    if (sumDistribution != null) {
+      return sumDistribution.sample(random);
+    }
+    return rollDice();
+  }
+
+  /**
+   * Rolls every die and returns the sum of their faces.
+   *
+   * @return the sum of all dice rolls
+   */
+  private int rollDice() {
     int total = 0;
     for (Die die : dice) {
       total += die.roll();
@@ -68,6 +146,129 @@ public class DiceSet {
     return total;
   }
 
+  /**
+   * Fills an array with the sums of consecutive rolls.
+   *
+   * @param sums the array to fill
+   * @see #rollInto(int[], int, int, int[])
+   */
+  public void rollInto(int[] sums) {
+    rollInto(sums, 0, sums.length, null);
+  }
+
+  /**
+   * Fills part of an array with the sums of consecutive rolls.
+   *
+   * @param sums the array to fill
+   * @param offset the index of the first sum to write
+   * @param count the number of rolls
+   * @see #rollInto(int[], int, int, int[])
+   */
+  public void rollInto(int[] sums, int offset, int count) {
+    rollInto(sums, offset, count, null);
+  }
+
+  /**
+   * Fills part of an array with the sums of consecutive rolls, and optionally a parallel
+   * array with the face of every die.
+   * The faces of roll {@code i} are written to {@code faces[i * n]} up to
+   * {@code faces[i * n + n - 1]}, where {@code i} is the index in {@code sums} and
+   * {@code n} the number of dice.
+   * The rolls come from the same random stream as {@link #roll()}, and afterwards
+   * {@link #getDie(int)} returns the faces of the last roll. In sum-sampling mode the
+   * sums are sampled directly unless faces are requested.
+   *
+   * @param sums the array to fill
+   * @param offset the index of the first sum to write
+   * @param count the number of rolls
+   * @param faces the array to write the faces to, or null to skip them
+   * @throws IndexOutOfBoundsException if the range does not fit in the arrays
+   */
+  public void rollInto(int[] sums, int offset, int count, int[] faces) {
+    int numberOfDice = dice.size();
+    Objects.checkFromIndexSize(offset, count, sums.length);
+    if (faces != null) {
+      Objects.checkFromToIndex(offset * numberOfDice, (offset + count) * numberOfDice,
+          faces.length);
+    }
+    if (count == 0) {
+      return;
+    }
+    RandomSource source = random;
+    if (faces == null && sumDistribution != null) {
+      SumDistribution distribution = sumDistribution;
+      for (int i = offset; i < offset + count; i++) {
+        sums[i] = distribution.sample(source);
+      }
+      return;
+    }
+    int last = offset + count - 1;
+    if (faces == null) {
+      for (int i = offset; i < last; i++) {
+        int total = numberOfDice;
+        for (int die = 0; die < numberOfDice; die++) {
+          total += source.nextInt(FACES);
+        }
+        sums[i] = total;
+      }
+    } else {
+      int face = offset * numberOfDice;
+      for (int i = offset; i < last; i++) {
+        int total = 0;
+        for (int die = 0; die < numberOfDice; die++) {
+          int value = source.nextInt(FACES) + 1;
+          faces[face++] = value;
+          total += value;
+        }
+        sums[i] = total;
+      }
+    }
+    // The last roll goes through the dice so that getDie reports its faces
+    sums[last] = rollDice();
+    if (faces != null) {
+      for (int die = 0; die < numberOfDice; die++) {
+        faces[last * numberOfDice + die] = dice.get(die).getValue();
+      }
+    }
+  }
+
+  /**
+   * Writes the sums of consecutive rolls to a buffer, starting at its current position.
+   * The position is advanced past the written sums.
+   *
+   * @param sums the buffer to write to
+   * @param count the number of rolls
+   * @throws BufferOverflowException if the buffer has less than count remaining
+   */
+  public void rollInto(IntBuffer sums, int count) {
+    if (sums.remaining() < count) {
+      throw new BufferOverflowException();
+    }
+    if (sums.hasArray()) {
+      rollInto(sums.array(), sums.arrayOffset() + sums.position(), count, null);
+      sums.position(sums.position() + count);
+      return;
+    }
+    int numberOfDice = dice.size();
+    RandomSource source = random;
+    if (sumDistribution != null) {
+      for (int i = 0; i < count; i++) {
+        sums.put(sumDistribution.sample(source));
+      }
+      return;
+    }
+    for (int i = 1; i < count; i++) {
+      int total = numberOfDice;
+      for (int die = 0; die < numberOfDice; die++) {
+        total += source.nextInt(FACES);
+      }
+      sums.put(total);
+    }
+    if (count > 0) {
+      sums.put(roll());
+    }
+  }
+
   /**
    * Returns the current value of a specific die.
    * The die number is zero-based, so the first die is 0,
@@ -76,8 +277,12 @@ public class DiceSet {
    * @param dieNumber the index of the die (0-based)
    * @return the current value of the specified die
    * @throws IllegalArgumentException if dieNumber is negative or exceeds the number of dice
+   * @throws IllegalStateException if the set is in sum-sampling mode
    */
   public int getDie(int dieNumber) {
+    if (sumDistribution != null) {
+      throw new IllegalStateException("Individual dice are not rolled in sum-sampling mode");
+    }
     if (dieNumber < 0) {
       throw new IllegalArgumentException(
           "Die number cannot be negative, got: " + dieNumber);
@@ -90,6 +295,15 @@ public class DiceSet {
     return dice.get(dieNumber).getValue();
   }
 
+  /**
+   * Returns whether totals are sampled directly instead of rolling each die.
+   *
+   * @return true if the set is in sum-sampling mode
+   */
+  public boolean isSumSampling() {
+    return sumDistribution != null;
+  }
+
   /**
    * Returns the total number of dice in this collection.
    *
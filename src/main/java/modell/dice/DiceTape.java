@@ -0,0 +1,323 @@
+package modell.dice;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A compact binary recording of every random number a game's dice draw.
+ * A recording source wraps the source a {@link DiceSet} rolls from and appends each
+ * draw to the tape; a replay source feeds the same draws back, so the dice roll exactly
+ * the same faces and totals again. A recorded match can therefore be replayed headlessly,
+ * at full speed, through a {@link modell.gameboard.GameEngine}. Splitting a recording
+ * source records only the seed of the new stream, so split streams replay as well.
+ *
+ * <p>The tape also names the board the game was played on and the number of players, so
+ * a saved tape holds everything needed to replay the game.
+ *
+ * <p>Draws are stored as unsigned varints, so a die face takes a single byte, in a ring
+ * buffer of fixed capacity. When the buffer is full the oldest draws are dropped to make
+ * room; a tape that has dropped draws can still be inspected and saved, but no longer
+ * replayed from the start.
+ *
+ * <p>A tape, like a random source, is meant to be used by one thread at a time.
+ *
+ * <p>Example usage:
+ * <pre>
+ * DiceTape tape = new DiceTape();
+ * DiceSet dice = new DiceSet(2, tape.record(RandomSource.create()));
+ * // ... play the game ...
+ * DiceSet again = new DiceSet(2, tape.replay());  // Rolls the same numbers
+ * </pre>
+ *
+ * @author didrik
+ * @version 1.0
+ */
+public final class DiceTape {
+  /** Capacity in bytes used when none is given */
+  public static final int DEFAULT_CAPACITY = 1 << 20;
+  /** Smallest allowed capacity, room for more than one draw of the largest size */
+  private static final int MIN_CAPACITY = 16;
+  /** Marks the start of a saved tape */
+  private static final int MAGIC = 0x44544150;
+  /** Format version of a saved tape */
+  private static final int FORMAT_VERSION = 2;
+  /** Format version of tapes saved without the board and the number of players */
+  private static final int UNNAMED_GAME_VERSION = 1;
+
+  /** Ring buffer holding the varint-encoded draws */
+  private final byte[] buffer;
+  /** Index of the first byte of the oldest draw */
+  private int start;
+  /** Number of bytes in use */
+  private int size;
+  /** Number of draws held on the tape */
+  private long draws;
+  /** Number of draws dropped to make room for newer ones */
+  private long dropped;
+  /** Board type or board file the game was played on, empty if not set */
+  private String board = "";
+  /** Number of players in the game, 0 if not set */
+  private int seats;
+
+  /**
+   * Creates an empty tape with the default capacity of {@value #DEFAULT_CAPACITY} bytes.
+   */
+  public DiceTape() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates an empty tape.
+   *
+   * @param capacity the size of the ring buffer in bytes
+   * @throws IllegalArgumentException if the capacity is less than 16 bytes
+   */
+  public DiceTape(int capacity) {
+    if (capacity < MIN_CAPACITY) {
+      throw new IllegalArgumentException("Tape capacity must be at least " + MIN_CAPACITY
+          + " bytes");
+    }
+    this.buffer = new byte[capacity];
+  }
+
+  /**
+   * Records which game the tape belongs to.
+   *
+   * @param board the board type or board file the game is played on
+   * @param seats the number of players
+   * @throws IllegalArgumentException if the board is null or blank or there are no players
+   */
+  public void setGame(String board, int seats) {
+    if (board == null || board.isBlank()) {
+      throw new IllegalArgumentException("Board cannot be null or blank");
+    }
+    if (seats < 1) {
+      throw new IllegalArgumentException("Game requires at least one player");
+    }
+    this.board = board;
+    this.seats = seats;
+  }
+
+  /**
+   * Returns a source that draws from the given source and records every draw on this tape.
+   *
+   * @param source the source to draw from
+   * @return a recording source
+   * @throws IllegalArgumentException if the source is null
+   */
+  public RandomSource record(RandomSource source) {
+    if (source == null) {
+      throw new IllegalArgumentException("Random source cannot be null");
+    }
+    return new RecordingRandomSource(source, this);
+  }
+
+  /**
+   * Returns a source that plays back the draws on this tape from the start.
+   * The source reads a snapshot, so the tape can keep recording while it is replayed.
+   *
+   * @return a replay source
+   * @throws IllegalStateException if draws have been dropped from the tape
+   */
+  public RandomSource replay() {
+    if (dropped > 0) {
+      throw new IllegalStateException("Cannot replay a tape that has dropped "
+          + dropped + " draws");
+    }
+    return new ReplayRandomSource(toByteArray());
+  }
+
+  /**
+   * Appends a draw to the tape, dropping the oldest draws if the buffer is full.
+   *
+   * @param value the drawn number, never negative
+   */
+  void append(long value) {
+    while (value >= 0x80) {
+      put((byte) (value | 0x80));
+      value >>>= 7;
+    }
+    put((byte) value);
+    draws++;
+  }
+
+  /**
+   * Writes one byte at the end of the ring buffer.
+   *
+   * @param value the byte to write
+   */
+  private void put(byte value) {
+    if (size == buffer.length) {
+      dropOldest();
+    }
+    int end = start + size;
+    buffer[end < buffer.length ? end : end - buffer.length] = value;
+    size++;
+  }
+
+  /**
+   * Drops the oldest draw, whose last byte is the first one without the continuation bit.
+   */
+  private void dropOldest() {
+    boolean last;
+    do {
+      last = buffer[start] >= 0;
+      start = start + 1 == buffer.length ? 0 : start + 1;
+      size--;
+    } while (!last);
+    draws--;
+    dropped++;
+  }
+
+  /**
+   * Returns the draws on the tape in order, as varint-encoded bytes.
+   *
+   * @return a copy of the tape's contents
+   */
+  public byte[] toByteArray() {
+    byte[] bytes = new byte[size];
+    int firstPart = Math.min(size, buffer.length - start);
+    System.arraycopy(buffer, start, bytes, 0, firstPart);
+    System.arraycopy(buffer, 0, bytes, firstPart, size - firstPart);
+    return bytes;
+  }
+
+  /**
+   * Writes the tape to a stream.
+   *
+   * @param out the stream to write to
+   * @throws IOException if the stream cannot be written
+   */
+  public void writeTo(OutputStream out) throws IOException {
+    DataOutputStream data = new DataOutputStream(out);
+    data.writeInt(MAGIC);
+    data.writeByte(FORMAT_VERSION);
+    data.writeUTF(board);
+    data.writeInt(seats);
+    data.writeLong(draws);
+    data.writeLong(dropped);
+    data.writeInt(size);
+    data.write(toByteArray());
+    data.flush();
+  }
+
+  /**
+   * Writes the tape to a file.
+   *
+   * @param file the file to write
+   * @throws IOException if the file cannot be written
+   */
+  public void save(Path file) throws IOException {
+    try (OutputStream out = Files.newOutputStream(file)) {
+      writeTo(out);
+    }
+  }
+
+  /**
+   * Reads a tape written by {@link #writeTo(OutputStream)}.
+   * The tape's capacity is the larger of its contents and the default capacity. Tapes of
+   * the first format version read back without a board and number of players.
+   *
+   * @param in the stream to read from
+   * @return the tape
+   * @throws IOException if the stream cannot be read or does not hold a tape
+   */
+  public static DiceTape readFrom(InputStream in) throws IOException {
+    DataInputStream data = new DataInputStream(in);
+    if (data.readInt() != MAGIC) {
+      throw new IOException("Not a dice tape");
+    }
+    int version = data.readUnsignedByte();
+    if (version != FORMAT_VERSION && version != UNNAMED_GAME_VERSION) {
+      throw new IOException("Unsupported dice tape version " + version);
+    }
+    String board = version == FORMAT_VERSION ? data.readUTF() : "";
+    int seats = version == FORMAT_VERSION ? data.readInt() : 0;
+    long draws = data.readLong();
+    long dropped = data.readLong();
+    int size = data.readInt();
+    if (seats < 0 || draws < 0 || dropped < 0 || size < 0) {
+      throw new IOException("Corrupt dice tape header");
+    }
+    DiceTape tape = new DiceTape(Math.max(size, DEFAULT_CAPACITY));
+    data.readFully(tape.buffer, 0, size);
+    tape.size = size;
+    tape.draws = draws;
+    tape.dropped = dropped;
+    tape.board = board;
+    tape.seats = seats;
+    return tape;
+  }
+
+  /**
+   * Reads a tape from a file.
+   *
+   * @param file the file to read
+   * @return the tape
+   * @throws IOException if the file cannot be read or does not hold a tape
+   */
+  public static DiceTape load(Path file) throws IOException {
+    try (InputStream in = Files.newInputStream(file)) {
+      return readFrom(in);
+    }
+  }
+
+  /**
+   * Returns the board the recorded game was played on.
+   *
+   * @return the board type or board file, or an empty string if it was not recorded
+   */
+  public String getBoard() {
+    return board;
+  }
+
+  /**
+   * Returns the number of players in the recorded game.
+   *
+   * @return the number of players, or 0 if it was not recorded
+   */
+  public int getSeatCount() {
+    return seats;
+  }
+
+  /**
+   * Returns the number of draws on the tape.
+   *
+   * @return the number of draws held
+   */
+  public long getDrawCount() {
+    return draws;
+  }
+
+  /**
+   * Returns the number of draws dropped because the buffer was full.
+   *
+   * @return the number of dropped draws
+   */
+  public long getDroppedCount() {
+    return dropped;
+  }
+
+  /**
+   * Returns the number of bytes the draws take up.
+   *
+   * @return the used size of the buffer
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * Returns the size of the ring buffer.
+   *
+   * @return the capacity in bytes
+   */
+  public int getCapacity() {
+    return buffer.length;
+  }
+}
@@ -1,11 +1,11 @@
 package modell.dice;
 
-import java.util.Random;
-
 /**
  * Represents a single six-sided die used in board games.
  * This class simulates a die that can be rolled to generate
  * random numbers between 1 and 6.
+ * The numbers are drawn from a {@link RandomSource}, which can be seeded
+ * to make the rolls reproducible.
  *
  * @author didrik
  * @version 1.0
@@ -14,15 +14,28 @@ public class Die {
   /** Stores the current face value of the die */
   private int lastRolledValue;
 
-  /** Random number generator for die rolls */
-  private final Random random;
+  /** Random number source for die rolls */
+  private final RandomSource random;
 
   /**
    * Constructs a new die.
    * Initializes the random number generator and sets initial value.
    */
   public Die() {
-    random = new Random();
+    this(RandomSource.create());
+  }
+
+  /**
+   * Constructs a new die that rolls from the given random source.
+   *
+   * @param random the source to draw rolls from
+   * @throws IllegalArgumentException if the random source is null
+   */
+  public Die(RandomSource random) {
+    if (random == null) {
+      throw new IllegalArgumentException("Random source cannot be null");
+    }
+    this.random = random;
     lastRolledValue = 0;
   }
 
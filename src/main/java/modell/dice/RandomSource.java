@@ -0,0 +1,96 @@
+package modell.dice;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * A stream of random numbers that dice roll from.
+ * A source is meant to be used by one thread at a time; it holds no shared or atomic
+ * state. To roll on several threads, {@link #split()} the source and give every thread
+ * its own stream. Seeded sources produce the same numbers on every run, and so do
+ * the streams split from them, which makes parallel simulations reproducible.
+ *
+ * <p>Example usage:
+ * <pre>
+ * RandomSource source = RandomSource.seeded(42);   // Reproducible stream
+ * DiceSet dice = new DiceSet(2, source);
+ * DiceSet other = new DiceSet(2, source.split());  // Independent stream for another thread
+ * </pre>
+ *
+ * @author didrik
+ * @version 1.0
+ */
+public interface RandomSource {
+
+  /**
+   * Returns a uniformly distributed number between 0 (inclusive) and the bound (exclusive).
+   *
+   * @param bound the upper bound, must be positive
+   * @return the next random number
+   */
+  int nextInt(int bound);
+
+  /**
+   * Returns a uniformly distributed number between 0 (inclusive) and the bound (exclusive).
+   *
+   * @param bound the upper bound, must be positive
+   * @return the next random number
+   */
+  long nextLong(long bound);
+
+  /**
+   * Creates a new source whose numbers are independent of this one.
+   * Splitting advances this source, so splitting the same seeded source in the same
+   * order always yields the same streams.
+   *
+   * @return a new independent source
+   */
+  RandomSource split();
+
+  /**
+   * Creates a source backed by {@link SplittableRandom} with an unpredictable seed.
+   *
+   * @return a new random source
+   */
+  static RandomSource create() {
+    return of(new SplittableRandom());
+  }
+
+  /**
+   * Creates a source backed by {@link SplittableRandom} with the given seed.
+   *
+   * @param seed the seed
+   * @return a new random source that produces the same numbers for the same seed
+   */
+  static RandomSource seeded(long seed) {
+    return of(new SplittableRandom(seed));
+  }
+
+  /**
+   * Creates a seeded source backed by a named splittable algorithm of the JDK,
+   * such as {@code "L64X128MixRandom"}.
+   *
+   * @param algorithm the name of the random generator algorithm
+   * @param seed the seed
+   * @return a new random source
+   * @throws IllegalArgumentException if the algorithm is unknown or not splittable
+   */
+  static RandomSource of(String algorithm, long seed) {
+    RandomGenerator generator = RandomGeneratorFactory.of(algorithm).create(seed);
+    if (!(generator instanceof RandomGenerator.SplittableGenerator splittable)) {
+      throw new IllegalArgumentException("Random generator " + algorithm + " is not splittable");
+    }
+    return of(splittable);
+  }
+
+  /**
+   * Creates a source backed by the given splittable generator.
+   *
+   * @param generator the generator to draw numbers from
+   * @return a new random source
+   */
+  static RandomSource of(RandomGenerator.SplittableGenerator generator) {
+    return new SplittableRandomSource(generator);
+  }
+}
@@ -0,0 +1,52 @@
+package modell.dice;
+
+/**
+ * Random source that passes draws through from another source and records them on a
+ * {@link DiceTape}.
+ *
+ * @author didrik
+ * @version 1.0
+ */
+final class RecordingRandomSource implements RandomSource {
+  /** The source draws are taken from */
+  private final RandomSource source;
+  /** The tape draws are recorded on */
+  private final DiceTape tape;
+
+  /**
+   * Creates a source that records the draws of another source.
+   *
+   * @param source the source to draw from
+   * @param tape the tape to record on
+   */
+  RecordingRandomSource(RandomSource source, DiceTape tape) {
+    this.source = source;
+    this.tape = tape;
+  }
+
+  @Override
+  public int nextInt(int bound) {
+    int value = source.nextInt(bound);
+    tape.append(value);
+    return value;
+  }
+
+  @Override
+  public long nextLong(long bound) {
+    long value = source.nextLong(bound);
+    tape.append(value);
+    return value;
+  }
+
+  /**
+   * Creates a seeded source from a seed drawn from this one. The seed is recorded on the
+   * tape like any other draw; the numbers of the new source follow from it and are not
+   * recorded, so they do not mix with the draws of this source.
+   *
+   * @return a new independent source
+   */
+  @Override
+  public RandomSource split() {
+    return RandomSource.seeded(nextLong(Long.MAX_VALUE));
+  }
+}
@@ -0,0 +1,71 @@
+package modell.dice;
+
+/**
+ * Random source that plays back the draws recorded on a {@link DiceTape}.
+ *
+ * @author didrik
+ * @version 1.0
+ */
+final class ReplayRandomSource implements RandomSource {
+  /** The varint-encoded draws */
+  private final byte[] tape;
+  /** Index of the next byte to read */
+  private int position;
+
+  /**
+   * Creates a source that plays back the given draws.
+   *
+   * @param tape the varint-encoded draws, in order
+   */
+  ReplayRandomSource(byte[] tape) {
+    this.tape = tape;
+  }
+
+  @Override
+  public int nextInt(int bound) {
+    return (int) next(bound);
+  }
+
+  @Override
+  public long nextLong(long bound) {
+    return next(bound);
+  }
+
+  /**
+   * Creates a seeded source from the next seed on the tape, which gives the same numbers
+   * as the source split off while recording.
+   *
+   * @return a new independent source
+   * @throws IllegalStateException if the tape has ended or was recorded by another game
+   */
+  @Override
+  public RandomSource split() {
+    return RandomSource.seeded(nextLong(Long.MAX_VALUE));
+  }
+
+  /**
+   * Reads the next draw and checks that it fits the bound it is read for.
+   *
+   * @param bound the bound the draw was made with
+   * @return the recorded draw
+   * @throws IllegalStateException if the tape has ended or was recorded by another game
+   */
+  private long next(long bound) {
+    long value = 0;
+    int shift = 0;
+    byte next;
+    do {
+      if (position == tape.length) {
+        throw new IllegalStateException("Dice tape has no more draws");
+      }
+      next = tape[position++];
+      value |= (long) (next & 0x7F) << shift;
+      shift += 7;
+    } while (next < 0);
+    if (value >= bound) {
+      throw new IllegalStateException("Dice tape does not match the game: recorded "
+          + value + " for a draw below " + bound);
+    }
+    return value;
+  }
+}
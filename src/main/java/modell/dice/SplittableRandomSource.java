@@ -0,0 +1,41 @@
+package modell.dice;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Random source backed by a splittable generator of the JDK.
+ *
+ * @author didrik
+ * @version 1.0
+ */
+final class SplittableRandomSource implements RandomSource {
+  /** The generator numbers are drawn from */
+  private final RandomGenerator.SplittableGenerator generator;
+
+  /**
+   * Creates a source backed by the given generator.
+   *
+   * @param generator the generator to draw numbers from
+   */
+  SplittableRandomSource(RandomGenerator.SplittableGenerator generator) {
+    if (generator == null) {
+      throw new IllegalArgumentException("Random generator cannot be null");
+    }
+    this.generator = generator;
+  }
+
+  @Override
+  public int nextInt(int bound) {
+    return generator.nextInt(bound);
+  }
+
+  @Override
+  public long nextLong(long bound) {
+    return generator.nextLong(bound);
+  }
+
+  @Override
+  public RandomSource split() {
+    return new SplittableRandomSource(generator.split());
+  }
+}
@@ -0,0 +1,208 @@
+package modell.dice;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The exact distribution of the sum of a number of fair dice, with a Walker alias table
+ * that samples a sum with a single random draw.
+ *
+ * <p>The distribution is counted exactly: every sum is backed by the number of face
+ * combinations that produce it, out of {@code faces^dice} equally likely outcomes. The
+ * alias table is built over these integer counts, so sampled sums follow the exact
+ * distribution with no rounding. When there are few enough outcomes, a sum is instead
+ * looked up directly in a table holding every outcome, which saves the division the
+ * alias table needs. Tables are immutable and cached per combination of
+ * dice and faces, so they are shared by every dice set and thread that uses them.
+ *
+ * <p>Example usage:
+ * <pre>
+ * SumDistribution sums = SumDistribution.of(10, 6);
+ * double p = sums.getProbability(35);      // Chance of rolling exactly 35
+ * int total = sums.sample(random);         // One draw instead of ten
+ * </pre>
+ *
+ * @author didrik
+ * @version 1.0
+ */
+public final class SumDistribution {
+  /** Cached distributions keyed by number of dice and number of faces */
+  private static final Map<Long, SumDistribution> CACHE = new ConcurrentHashMap<>();
+  /** Largest number of outcomes that are sampled from a direct lookup table */
+  private static final int LOOKUP_LIMIT = 1 << 16;
+
+  /** Lowest possible sum, one per die */
+  private final int minSum;
+  /** Number of face combinations producing each sum, indexed from the lowest sum */
+  private final long[] ways;
+  /** Total number of equally likely face combinations */
+  private final long outcomes;
+  /** Alias-table threshold per column, out of {@link #outcomes} */
+  private final long[] thresholds;
+  /** Alias-table fallback column per column */
+  private final int[] aliases;
+  /** Sum of every outcome when there are at most {@link #LOOKUP_LIMIT} outcomes, else null */
+  private final int[] lookup;
+
+  /**
+   * Counts the distribution and builds its alias table.
+   *
+   * @param numberOfDice the number of dice
+   * @param faces the number of faces on each die
+   */
+  private SumDistribution(int numberOfDice, int faces) {
+    this.minSum = numberOfDice;
+    long[] counts = {1};
+    for (int die = 0; die < numberOfDice; die++) {
+      long[] next = new long[counts.length + faces - 1];
+      for (int sum = 0; sum < counts.length; sum++) {
+        for (int face = 0; face < faces; face++) {
+          next[sum + face] += counts[sum];
+        }
+      }
+      counts = next;
+    }
+    this.ways = counts;
+    long total = 1;
+    for (int die = 0; die < numberOfDice; die++) {
+      total *= faces;
+    }
+    this.outcomes = total;
+
+    int columns = ways.length;
+    this.thresholds = new long[columns];
+    this.aliases = new int[columns];
+    long[] weights = new long[columns];
+    int[] small = new int[columns];
+    int[] large = new int[columns];
+    int smallCount = 0;
+    int largeCount = 0;
+    for (int column = 0; column < columns; column++) {
+      weights[column] = ways[column] * columns;
+      aliases[column] = column;
+      if (weights[column] < outcomes) {
+        small[smallCount++] = column;
+      } else {
+        large[largeCount++] = column;
+      }
+    }
+    while (smallCount > 0 && largeCount > 0) {
+      int under = small[--smallCount];
+      int over = large[largeCount - 1];
+      thresholds[under] = weights[under];
+      aliases[under] = over;
+      weights[over] -= outcomes - weights[under];
+      if (weights[over] < outcomes) {
+        largeCount--;
+        small[smallCount++] = over;
+      }
+    }
+    while (largeCount > 0) {
+      thresholds[large[--largeCount]] = outcomes;
+    }
+    while (smallCount > 0) {
+      thresholds[small[--smallCount]] = outcomes;
+    }
+
+    if (outcomes <= LOOKUP_LIMIT) {
+      this.lookup = new int[(int) outcomes];
+      int next = 0;
+      for (int column = 0; column < columns; column++) {
+        for (long way = 0; way < ways[column]; way++) {
+          lookup[next++] = minSum + column;
+        }
+      }
+    } else {
+      this.lookup = null;
+    }
+  }
+
+  /**
+   * Returns the distribution for the given dice, building and caching it on first use.
+   *
+   * @param numberOfDice the number of dice, at least 1
+   * @param faces the number of faces on each die, at least 1
+   * @return the shared distribution
+   * @throws IllegalArgumentException if a count is not positive or the number of
+   *         outcomes is too large to count exactly
+   */
+  public static SumDistribution of(int numberOfDice, int faces) {
+    if (numberOfDice < 1 || faces < 1) {
+      throw new IllegalArgumentException("Number of dice and faces must be positive");
+    }
+    double columns = (double) numberOfDice * (faces - 1) + 1;
+    if (Math.pow(faces, numberOfDice) * columns >= Long.MAX_VALUE) {
+      throw new IllegalArgumentException(numberOfDice + " dice with " + faces
+          + " faces have too many outcomes to count exactly");
+    }
+    long key = (long) numberOfDice << 32 | faces;
+    return CACHE.computeIfAbsent(key, k -> new SumDistribution(numberOfDice, faces));
+  }
+
+  /**
+   * Draws a sum with a single random number.
+   * With few outcomes the number picks an outcome from the lookup table. Otherwise it
+   * picks a column of the alias table and, in the same draw, whether to keep the
+   * column's own sum or its alias.
+   *
+   * @param random the source to draw from
+   * @return the sampled sum
+   */
+  public int sample(RandomSource random) {
+    if (lookup != null) {
+      return lookup[random.nextInt(lookup.length)];
+    }
+    long draw = random.nextLong(outcomes * ways.length);
+    int column = (int) (draw / outcomes);
+    long position = draw - column * outcomes;
+    return minSum + (position < thresholds[column] ? column : aliases[column]);
+  }
+
+  /**
+   * Returns the lowest possible sum.
+   *
+   * @return the lowest sum
+   */
+  public int getMinSum() {
+    return minSum;
+  }
+
+  /**
+   * Returns the highest possible sum.
+   *
+   * @return the highest sum
+   */
+  public int getMaxSum() {
+    return minSum + ways.length - 1;
+  }
+
+  /**
+   * Returns the number of face combinations that produce the given sum.
+   *
+   * @param sum the sum
+   * @return the number of combinations, 0 for impossible sums
+   */
+  public long getWays(int sum) {
+    int index = sum - minSum;
+    return index >= 0 && index < ways.length ? ways[index] : 0;
+  }
+
+  /**
+   * Returns the total number of equally likely face combinations.
+   *
+   * @return the number of outcomes
+   */
+  public long getOutcomes() {
+    return outcomes;
+  }
+
+  /**
+   * Returns the exact probability of rolling the given sum.
+   *
+   * @param sum the sum
+   * @return the probability, 0 for impossible sums
+   */
+  public double getProbability(int sum) {
+    return (double) getWays(sum) / outcomes;
+  }
+}
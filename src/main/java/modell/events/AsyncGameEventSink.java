@@ -0,0 +1,201 @@
+package modell.events;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Event sink that queues events in a lock-free ring buffer and hands them to a
+ * {@link GameEventConsumer} on a background thread.
+ *
+ * <p>Any number of threads can publish at once. A publisher claims a slot with a single
+ * compare-and-set, writes the event's fields into preallocated arrays and marks the slot
+ * as ready; it never blocks and creates no objects. If the consumer falls so far behind
+ * that the buffer is full, new events are dropped and counted instead of slowing the game
+ * down. Events from one thread are consumed in the order they were published.
+ * An event that races with {@link #close()} is either consumed or counted as dropped,
+ * never lost.
+ *
+ * <p>{@link #close()} stops accepting events, waits for the queued events to be consumed
+ * and stops the background thread.
+ *
+ * <p>Example usage:
+ * <pre>
+ * try (AsyncGameEventSink sink = new AsyncGameEventSink(GameEventConsumer.console())) {
+ *   GameboardLogic logic = new GameboardLogic(sink);
+ *   // ... play ...
+ * }
+ * </pre>
+ *
+ * @author didrik
+ * @version 1.0
+ */
+public final class AsyncGameEventSink implements GameEventSink, AutoCloseable {
+  /** Number of slots used when none is given */
+  public static final int DEFAULT_CAPACITY = 1 << 14;
+  /** Time the consumer sleeps when the buffer is empty */
+  private static final long IDLE_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+  /** Mask that turns a sequence number into a slot index */
+  private final int mask;
+  /**
+   * Sequence of each slot: equal to the publish sequence when the slot is free for it,
+   * one more once the event in it is ready to be consumed
+   */
+  private final AtomicLongArray sequences;
+  /** Event type per slot */
+  private final GameEventType[] types;
+  /** Event subject per slot */
+  private final String[] subjects;
+  /** Event tile per slot */
+  private final int[] tiles;
+  /** Event amount per slot */
+  private final int[] amounts;
+  /** Next sequence to be claimed by a publisher */
+  private final AtomicLong tail = new AtomicLong();
+  /** Number of events dropped because the buffer was full or the sink closed */
+  private final AtomicLong dropped = new AtomicLong();
+
+  /** The consumer events are handed to */
+  private final GameEventConsumer consumer;
+  /** The background thread draining the buffer */
+  private final Thread worker;
+  /** Set once the sink stops accepting events */
+  private volatile boolean closed;
+
+  /**
+   * Creates a sink with the default capacity of {@value #DEFAULT_CAPACITY} events and
+   * starts its background thread.
+   *
+   * @param consumer the consumer to hand events to
+   * @throws IllegalArgumentException if the consumer is null
+   */
+  public AsyncGameEventSink(GameEventConsumer consumer) {
+    this(consumer, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a sink and starts its background thread.
+   *
+   * @param consumer the consumer to hand events to
+   * @param capacity the number of events the buffer holds, a power of two
+   * @throws IllegalArgumentException if the consumer is null or the capacity is not a
+   *         positive power of two
+   */
+  public AsyncGameEventSink(GameEventConsumer consumer, int capacity) {
+    if (consumer == null) {
+      throw new IllegalArgumentException("Event consumer cannot be null");
+    }
+    if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("Capacity must be a positive power of two, got: "
+          + capacity);
+    }
+    this.consumer = consumer;
+    this.mask = capacity - 1;
+    this.sequences = new AtomicLongArray(capacity);
+    for (int slot = 0; slot < capacity; slot++) {
+      sequences.set(slot, slot);
+    }
+    this.types = new GameEventType[capacity];
+    this.subjects = new String[capacity];
+    this.tiles = new int[capacity];
+    this.amounts = new int[capacity];
+    this.worker = new Thread(this::drain, "game-events");
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  @Override
+  public void publish(GameEventType type, String subject, int tile, int amount) {
+    if (closed) {
+      dropped.incrementAndGet();
+      return;
+    }
+    long sequence;
+    int slot;
+    while (true) {
+      sequence = tail.get();
+      slot = (int) sequence & mask;
+      long available = sequences.get(slot);
+      if (available == sequence) {
+        if (tail.compareAndSet(sequence, sequence + 1)) {
+          break;
+        }
+      } else if (available < sequence) {
+        dropped.incrementAndGet();
+        return;
+      }
+    }
+    if (closed) {
+      // The consumer may already have stopped; mark the slot empty so it is never handed on
+      types[slot] = null;
+      subjects[slot] = null;
+      sequences.set(slot, sequence + 1);
+      dropped.incrementAndGet();
+      return;
+    }
+    types[slot] = type;
+    subjects[slot] = subject;
+    tiles[slot] = tile;
+    amounts[slot] = amount;
+    sequences.set(slot, sequence + 1);
+  }
+
+  /**
+   * Consumes events in sequence order until the sink is closed and the buffer is empty.
+   */
+  private void drain() {
+    int capacity = mask + 1;
+    long head = 0;
+    while (true) {
+      int slot = (int) head & mask;
+      if (sequences.get(slot) == head + 1) {
+        GameEventType type = types[slot];
+        String subject = subjects[slot];
+        subjects[slot] = null;
+        int tile = tiles[slot];
+        int amount = amounts[slot];
+        sequences.set(slot, head + capacity);
+        head++;
+        if (type == null) {
+          continue;
+        }
+        try {
+          consumer.accept(type, subject, tile, amount);
+        } catch (RuntimeException e) {
+          // A failing consumer must not stop the events that follow
+        }
+      } else if (closed && tail.get() == head) {
+        return;
+      } else {
+        LockSupport.parkNanos(IDLE_NANOS);
+      }
+    }
+  }
+
+  /**
+   * Returns the number of events dropped because the buffer was full or the sink was
+   * closed.
+   *
+   * @return the number of dropped events
+   */
+  public long getDroppedCount() {
+    return dropped.get();
+  }
+
+  /**
+   * Stops accepting events, waits until the queued events are consumed and stops the
+   * background thread.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    LockSupport.unpark(worker);
+    try {
+      worker.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
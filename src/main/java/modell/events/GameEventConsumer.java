@@ -0,0 +1,31 @@
+package modell.events;
+
+/**
+ * Receives the events drained from an {@link AsyncGameEventSink} on its background thread.
+ *
+ * @author didrik
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface GameEventConsumer {
+
+  /**
+   * Handles one event.
+   *
+   * @param type the kind of event
+   * @param subject the player or file the event is about
+   * @param tile the tile of the event
+   * @param amount the amount of the event
+   */
+  void accept(GameEventType type, String subject, int tile, int amount);
+
+  /**
+   * Returns a consumer that prints every event as a line on standard output.
+   *
+   * @return a console consumer
+   */
+  static GameEventConsumer console() {
+    return (type, subject, tile, amount) ->
+        System.out.println(type.format(subject, tile, amount));
+  }
+}
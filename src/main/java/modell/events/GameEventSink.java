@@ -0,0 +1,29 @@
+package modell.events;
+
+/**
+ * Destination for the events the game model publishes while it runs.
+ * Publishing must be cheap and must not block, since it is called on every move; an
+ * event is passed as plain fields, so publishing itself creates no objects.
+ *
+ * <p>The default sink, {@link #NOOP}, discards every event. An
+ * {@link AsyncGameEventSink} hands events to a background thread instead, so slow
+ * output such as the console is kept off the game thread.
+ *
+ * @author didrik
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface GameEventSink {
+  /** Sink that discards every event */
+  GameEventSink NOOP = (type, subject, tile, amount) -> { };
+
+  /**
+   * Publishes an event.
+   *
+   * @param type the kind of event
+   * @param subject the player or file the event is about
+   * @param tile the tile of the event, see {@link GameEventType}
+   * @param amount the amount of the event, see {@link GameEventType}
+   */
+  void publish(GameEventType type, String subject, int tile, int amount);
+}
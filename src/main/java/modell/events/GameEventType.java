@@ -0,0 +1,43 @@
+package modell.events;
+
+/**
+ * The kinds of event the game model publishes to a {@link GameEventSink}.
+ * An event carries the type, a subject such as a player or file name, a tile and an
+ * amount; each type documents what its tile and amount mean.
+ *
+ * @author didrik
+ * @version 1.0
+ */
+public enum GameEventType {
+  /** A player rolled and moved; the tile is the new position and the amount the roll */
+  PLAYER_MOVED,
+  /** A player overshot the last tile; the tile is where they bounced back to */
+  BOUNCED_BACK,
+  /** A player climbed a ladder; the tile is the top and the amount the distance */
+  LADDER_CLIMBED,
+  /** A player slid down a snake; the tile is the bottom and the amount the distance */
+  LADDER_FALLEN,
+  /** A board file is being loaded; the subject is the file name */
+  BOARD_LOADED,
+  /** A configured board directory could not be used; the subject names it and the reason */
+  BOARD_DIRECTORY_IGNORED;
+
+  /**
+   * Formats an event of this type as a line of text for a log.
+   *
+   * @param subject the subject of the event
+   * @param tile the tile of the event
+   * @param amount the amount of the event
+   * @return a readable description
+   */
+  public String format(String subject, int tile, int amount) {
+    return switch (this) {
+      case PLAYER_MOVED -> subject + " rolled " + amount + ", moved to position " + tile;
+      case BOUNCED_BACK -> subject + " bounced back to " + tile;
+      case LADDER_CLIMBED -> subject + " climbed a ladder to " + tile;
+      case LADDER_FALLEN -> subject + " fell down a ladder to " + tile;
+      case BOARD_LOADED -> "Loading board file: boards/" + subject;
+      case BOARD_DIRECTORY_IGNORED -> "Ignoring board directory: " + subject;
+    };
+  }
+}
@@ -0,0 +1,48 @@
+package modell.events;
+
+/**
+ * Holds the process-wide event sink that model objects publish to by default.
+ * The sink is read when a model object is created, so a sink should be installed at
+ * startup, before the game is set up. Until then the {@link GameEventSink#NOOP no-op}
+ * sink is used.
+ *
+ * <p>Example usage:
+ * <pre>
+ * AsyncGameEventSink sink = new AsyncGameEventSink(GameEventConsumer.console());
+ * GameEvents.install(sink);
+ * // ... run the game ...
+ * GameEvents.install(GameEventSink.NOOP);
+ * sink.close();
+ * </pre>
+ *
+ * @author didrik
+ * @version 1.0
+ */
+public final class GameEvents {
+  /** The installed sink */
+  private static volatile GameEventSink sink = GameEventSink.NOOP;
+
+  /**
+   * Returns the installed sink.
+   *
+   * @return the current default sink
+   */
+  public static GameEventSink sink() {
+    return sink;
+  }
+
+  /**
+   * Installs the sink that model objects created from now on publish to.
+   *
+   * @param newSink the sink to install
+   * @throws IllegalArgumentException if the sink is null
+   */
+  public static void install(GameEventSink newSink) {
+    if (newSink == null) {
+      throw new IllegalArgumentException("Event sink cannot be null");
+    }
+    sink = newSink;
+  }
+
+  private GameEvents() {}
+}
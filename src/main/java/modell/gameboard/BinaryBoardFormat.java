@@ -0,0 +1,247 @@
+package modell.gameboard;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import modell.exceptions.BoardLoadException;
+import modell.exceptions.BoardSaveException;
+
+/**
+ * Compact binary format for board configurations, next to the JSON format of
+ * {@link BoardFileSaver}. A binary board is read through a memory-mapped file, so opening
+ * one only touches the pages it needs and copies nothing into heap buffers.
+ *
+ * <p>Layout, in big-endian byte order:
+ * <ul>
+ *     <li>Header of {@value #HEADER_SIZE} bytes: the magic number {@code "LBRD"}, the
+ *     format version, the board size, the number of special tiles and the length of the
+ *     special tile section</li>
+ *     <li>Special tiles, sorted by tile number: the distance to the previous tile number
+ *     as an unsigned varint, then the special value as a zigzag varint</li>
+ *     <li>A CRC-32 of the header and the special tiles</li>
+ * </ul>
+ *
+ * <p>Reading a binary board gives the same {@link BoardConfig} as reading the JSON board
+ * it was converted from, except that the special tiles are sorted by tile number.
+ *
+ * <p>Example usage:
+ * <pre>
+ * BinaryBoardFormat.convert(Path.of("custom_board.json"), Path.of("custom_board.board"));
+ * BoardConfig config = BinaryBoardFormat.load(Path.of("custom_board.board"));
+ * </pre>
+ *
+ * @author didrik
+ * @version 1.0
+ */
+public final class BinaryBoardFormat {
+  /** File name extension of binary boards */
+  public static final String EXTENSION = ".board";
+  /** Size of the fixed header in bytes */
+  public static final int HEADER_SIZE = 20;
+  /** Marks a binary board file, "LBRD" in ASCII */
+  private static final int MAGIC = 0x4C425244;
+  /** Format version of a binary board */
+  private static final int FORMAT_VERSION = 1;
+  /** Size of the checksum after the special tiles */
+  private static final int CHECKSUM_SIZE = 4;
+  /** Largest number of bytes one special tile can take */
+  private static final int MAX_TILE_SIZE = 10;
+
+  /**
+   * Encodes a board configuration.
+   *
+   * @param config the board to encode
+   * @return the binary board
+   * @throws IllegalArgumentException if a tile number is negative
+   */
+  public static byte[] encode(BoardConfig config) {
+    int count = config.getSpecialTileCount();
+    long[] tiles = sortedTiles(config.getTileNumbers(), config.getSpecialValues());
+    ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + count * MAX_TILE_SIZE
+        + CHECKSUM_SIZE);
+    buffer.position(HEADER_SIZE);
+    int previous = 0;
+    for (long tile : tiles) {
+      int tileNumber = (int) (tile >> 32);
+      writeVarint(buffer, tileNumber - previous);
+      writeVarint(buffer, zigzag((int) tile));
+      previous = tileNumber;
+    }
+    int sectionLength = buffer.position() - HEADER_SIZE;
+    buffer.putInt(0, MAGIC);
+    buffer.putInt(4, FORMAT_VERSION);
+    buffer.putInt(8, config.getBoardSize());
+    buffer.putInt(12, count);
+    buffer.putInt(16, sectionLength);
+
+    CRC32 crc = new CRC32();
+    crc.update(buffer.array(), 0, buffer.position());
+    buffer.putInt((int) crc.getValue());
+    return Arrays.copyOf(buffer.array(), buffer.position());
+  }
+
+  /**
+   * Decodes a binary board from the buffer's position to its limit.
+   *
+   * @param buffer the binary board
+   * @return the board configuration, with the special tiles sorted by tile number
+   * @throws IOException if the data is not a binary board, has an unsupported version,
+   *         is truncated or fails its checksum
+   */
+  public static BoardConfig decode(ByteBuffer buffer) throws IOException {
+    ByteBuffer data = buffer.slice().order(ByteOrder.BIG_ENDIAN);
+    if (data.remaining() < HEADER_SIZE + CHECKSUM_SIZE) {
+      throw new IOException("Binary board is truncated");
+    }
+    if (data.getInt(0) != MAGIC) {
+      throw new IOException("Not a binary board");
+    }
+    int version = data.getInt(4);
+    if (version != FORMAT_VERSION) {
+      throw new IOException("Unsupported binary board version " + version);
+    }
+    int boardSize = data.getInt(8);
+    int count = data.getInt(12);
+    int sectionLength = data.getInt(16);
+    if (sectionLength < 0 || sectionLength > data.remaining() - HEADER_SIZE - CHECKSUM_SIZE) {
+      throw new IOException("Binary board is truncated");
+    }
+    if (count < 0 || count > sectionLength / 2) {
+      throw new IOException("Binary board special tiles are corrupt");
+    }
+    int end = HEADER_SIZE + sectionLength;
+
+    CRC32 crc = new CRC32();
+    crc.update(data.duplicate().position(0).limit(end));
+    if (data.getInt(end) != (int) crc.getValue()) {
+      throw new IOException("Binary board checksum mismatch");
+    }
+
+    int[] tileNumbers = new int[count];
+    int[] specialValues = new int[count];
+    data.position(HEADER_SIZE).limit(end);
+    int tileNumber = 0;
+    try {
+      for (int i = 0; i < count; i++) {
+        tileNumber += readVarint(data);
+        tileNumbers[i] = tileNumber;
+        specialValues[i] = unzigzag(readVarint(data));
+      }
+    } catch (RuntimeException e) {
+      throw new IOException("Binary board special tiles are corrupt", e);
+    }
+    if (data.hasRemaining()) {
+      throw new IOException("Binary board special tiles are corrupt");
+    }
+
+    BoardConfig config = new BoardConfig();
+    config.setBoardSize(boardSize);
+    config.setSpecialTiles(tileNumbers, specialValues, count);
+    return config;
+  }
+
+  /**
+   * Writes a board configuration to a binary board file.
+   *
+   * @param config the board to save
+   * @param file the file to write
+   * @throws BoardSaveException if the file cannot be written
+   */
+  public static void save(BoardConfig config, Path file) throws BoardSaveException {
+    try {
+      Files.write(file, encode(config));
+    } catch (IOException e) {
+      throw new BoardSaveException("Failed to save binary board to: " + file, e);
+    }
+  }
+
+  /**
+   * Loads a binary board file by mapping it into memory.
+   *
+   * @param file the file to load
+   * @return the board configuration
+   * @throws BoardLoadException if the file cannot be read or is not a valid binary board
+   */
+  public static BoardConfig load(Path file) throws BoardLoadException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      return decode(mapped);
+    } catch (IOException e) {
+      throw new BoardLoadException("Failed to load binary board from " + file, e);
+    }
+  }
+
+  /**
+   * Converts a JSON board file into a binary board file.
+   *
+   * @param jsonFile the JSON board to read
+   * @param binaryFile the binary board to write
+   * @return the converted board configuration
+   * @throws BoardLoadException if the JSON board cannot be read
+   * @throws BoardSaveException if the binary board cannot be written
+   */
+  public static BoardConfig convert(Path jsonFile, Path binaryFile)
+      throws BoardLoadException, BoardSaveException {
+    BoardConfig config;
+    try (Reader reader = Files.newBufferedReader(jsonFile)) {
+      config = StreamingBoardReader.read(reader);
+    } catch (IOException | RuntimeException e) {
+      throw new BoardLoadException("Failed to load board configuration from " + jsonFile, e);
+    }
+    save(config, binaryFile);
+    return config;
+  }
+
+  /**
+   * Packs the special tiles as tile number and value pairs and sorts them by tile number.
+   */
+  private static long[] sortedTiles(int[] tileNumbers, int[] specialValues) {
+    long[] tiles = new long[tileNumbers.length];
+    for (int i = 0; i < tiles.length; i++) {
+      if (tileNumbers[i] < 0) {
+        throw new IllegalArgumentException("Tile number cannot be negative: " + tileNumbers[i]);
+      }
+      tiles[i] = (long) tileNumbers[i] << 32 | (specialValues[i] & 0xFFFFFFFFL);
+    }
+    Arrays.sort(tiles);
+    return tiles;
+  }
+
+  private static void writeVarint(ByteBuffer buffer, int value) {
+    while ((value & ~0x7F) != 0) {
+      buffer.put((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  private static int readVarint(ByteBuffer buffer) {
+    int value = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      byte b = buffer.get();
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalStateException("Varint is too long");
+  }
+
+  private static int zigzag(int value) {
+    return (value << 1) ^ (value >> 31);
+  }
+
+  private static int unzigzag(int value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private BinaryBoardFormat() {}
+}
@@ -1,6 +1,9 @@
 package modell.gameboard;
 
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import modell.tiles.LadderBoardBuilder;
 
 /**
  * Represents the configuration of a game board.
@@ -22,12 +25,23 @@ import java.util.Map;
  * config.setTileConfigs(tiles);
  * </pre>
  *
+ * <p>Loaders that read many special tiles can hand them over as two parallel int arrays
+ * with {@link #setSpecialTiles(int[], int[], int)} instead. The map is then only created
+ * if {@link #getTileConfigs()} is called, and {@link #addLaddersTo(LadderBoardBuilder)}
+ * copies the arrays into a board builder without boxing.
+ *
  * @author didrik
  * @version 1.0
  */
 public class BoardConfig {
   private int boardSize;
   private Map<Integer, Integer> tileConfigs;
+  /** Tile numbers of the special tiles, when they were set as arrays */
+  private int[] tileNumbers;
+  /** Special values parallel to {@link #tileNumbers} */
+  private int[] specialValues;
+  /** Number of special tiles in the arrays */
+  private int specialTileCount;
 
   /**
    * Gets the total number of tiles on the board.
@@ -50,10 +64,18 @@ public class BoardConfig {
   /**
    * Gets the map of special tile configurations.
    * The map keys are tile numbers, and the values are their special effects.
+   * If the special tiles were set as arrays, the map is created from them on the first call.
    *
    * @return the map of tile configurations
    */
   public Map<Integer, Integer> getTileConfigs() {
+    if (tileConfigs == null && tileNumbers != null) {
+      Map<Integer, Integer> map = new LinkedHashMap<>();
+      for (int i = 0; i < specialTileCount; i++) {
+        map.put(tileNumbers[i], specialValues[i]);
+      }
+      tileConfigs = map;
+    }
     return tileConfigs;
   }
 
@@ -65,6 +87,82 @@ public class BoardConfig {
    */
   public void setTileConfigs(Map<Integer, Integer> tileConfigs) {
     this.tileConfigs = tileConfigs;
+    this.tileNumbers = null;
+    this.specialValues = null;
+    this.specialTileCount = 0;
+  }
+
+  /**
+   * Sets the special tiles as two parallel arrays. The arrays are kept as they are, not
+   * copied, and must not be changed afterwards.
+   *
+   * @param tileNumbers the tile numbers of the special tiles
+   * @param specialValues the special values, at the same index as their tile number
+   * @param count the number of special tiles, counted from the start of the arrays
+   * @throws IllegalArgumentException if an array is null or shorter than the count
+   */
+  public void setSpecialTiles(int[] tileNumbers, int[] specialValues, int count) {
+    if (tileNumbers == null || specialValues == null || count < 0
+        || tileNumbers.length < count || specialValues.length < count) {
+      throw new IllegalArgumentException("Special tile arrays must hold " + count + " tiles");
+    }
+    this.tileNumbers = tileNumbers;
+    this.specialValues = specialValues;
+    this.specialTileCount = count;
+    this.tileConfigs = null;
+  }
+
+  /**
+   * Gets the number of special tiles.
+   *
+   * @return the number of special tiles, or 0 if none are set
+   */
+  public int getSpecialTileCount() {
+    if (tileNumbers != null) {
+      return specialTileCount;
+    }
+    return tileConfigs == null ? 0 : tileConfigs.size();
+  }
+
+  /**
+   * Gets the tile numbers of the special tiles, in the same order as
+   * {@link #getSpecialValues()}.
+   *
+   * @return a new array with one tile number per special tile
+   */
+  public int[] getTileNumbers() {
+    if (tileNumbers != null) {
+      return Arrays.copyOf(tileNumbers, specialTileCount);
+    }
+    return tileConfigs == null ? new int[0]
+        : tileConfigs.keySet().stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  /**
+   * Gets the special values of the special tiles, in the same order as
+   * {@link #getTileNumbers()}.
+   *
+   * @return a new array with one special value per special tile
+   */
+  public int[] getSpecialValues() {
+    if (tileNumbers != null) {
+      return Arrays.copyOf(specialValues, specialTileCount);
+    }
+    return tileConfigs == null ? new int[0]
+        : tileConfigs.values().stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  /**
+   * Records the special tiles as ladders in a board builder.
+   *
+   * @param builder the builder to add the ladders to
+   */
+  public void addLaddersTo(LadderBoardBuilder builder) {
+    if (tileNumbers != null) {
+      builder.addLadders(tileNumbers, specialValues, specialTileCount);
+    } else if (tileConfigs != null) {
+      builder.addLadders(tileConfigs);
+    }
   }
 }
 
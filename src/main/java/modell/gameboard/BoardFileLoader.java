@@ -1,18 +1,10 @@
 package modell.gameboard;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
-import java.util.Map;
 import modell.exceptions.BoardLoadException;
 
 /**
  * Handles loading board configurations from JSON files.
+ * The files are read through the shared {@link BoardRepository}, which also caches them.
  *
  * @author didrik
  * @version 1.0
@@ -20,41 +12,16 @@ import modell.exceptions.BoardLoadException;
 public class BoardFileLoader {
 
   /**
-   * Loads a board configuration from a specified file in the Resources folder.
+   * Loads a board configuration from a file on the file system or in the Resources folder.
    *
-   * @param filePath the relative path inside the resources folder (e.g. "boards/custom_board.json")
+   * @param filePath a path on the file system, or the relative path inside the resources
+   *        folder (e.g. "boards/custom_board.json")
    * @return a BoardConfig containing board size and special tile mappings
-   * @throws BoardLoadException if the file is missing or cannot be parsed
+   * @throws BoardLoadException if the file is missing, cannot be parsed or is not a valid
+   *         board
    */
   public static BoardConfig loadBoard(String filePath) throws BoardLoadException {
-    try (InputStream inputStream =
-             BoardFileLoader.class.getClassLoader().getResourceAsStream(filePath)) {
-      if (inputStream == null) {
-        throw new BoardLoadException("Board configuration file not found: " + filePath, null);
-      }
-
-      InputStreamReader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
-      JsonObject boardJson = JsonParser.parseReader(reader).getAsJsonObject();
-
-      int boardSize = boardJson.get("boardSize").getAsInt();
-      JsonArray specialTilesArray = boardJson.getAsJsonArray("specialTiles");
-
-      Map<Integer, Integer> specialTiles = new HashMap<>();
-      for (JsonElement tileElement : specialTilesArray) {
-        JsonObject tileJson = tileElement.getAsJsonObject();
-        int tileNumber = tileJson.get("tileNumber").getAsInt();
-        int specialValue = tileJson.get("specialValue").getAsInt();
-        specialTiles.put(tileNumber, specialValue);
-      }
-
-      BoardConfig config = new BoardConfig();
-      config.setBoardSize(boardSize);
-      config.setTileConfigs(specialTiles);
-      return config;
-
-    } catch (Exception e) {
-      throw new BoardLoadException("Failed to load board configuration from " + filePath, e);
-    }
+    return BoardRepository.shared().loadConfig(filePath);
   }
 
   private BoardFileLoader() {}
@@ -18,7 +18,7 @@ import modell.tiles.LadderTileLogic;
  * <ul>
  *     <li>Board size: The total number of tiles on the board</li>
  *     <li>Special tiles: An array of tile configurations,
- *     each containing a tile number and its ladder value</li>
+ *     each containing a tile number and its special value</li>
  * </ul>
  *
  * <p>The file is stored at a predefined location in the resources' directory.
@@ -76,7 +76,7 @@ public class BoardFileSaver {
     for (Map.Entry<Integer, Integer> entry : specialTiles.entrySet()) {
       JsonObject tileJson = new JsonObject();
       tileJson.addProperty("tileNumber", entry.getKey());
-      tileJson.addProperty("ladderValue", entry.getValue());
+      tileJson.addProperty("specialValue", entry.getValue());
       specialTilesArray.add(tileJson);
     }
 
@@ -0,0 +1,457 @@
+package modell.gameboard;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import modell.events.GameEventSink;
+import modell.events.GameEventType;
+import modell.events.GameEvents;
+import modell.exceptions.BoardLoadException;
+import modell.tiles.LadderBoardBuilder;
+import modell.tiles.LadderTileLogic;
+
+/**
+ * Single place that board files are read from. A board is looked up by name, in order:
+ * <ol>
+ *     <li>as a path on the file system, relative to the working directory or absolute</li>
+ *     <li>in each board directory added with {@link #addDirectory(Path)}</li>
+ *     <li>in the {@code boards/} folder of the resources, and then from the resources'
+ *     root</li>
+ * </ol>
+ * Files ending in {@value BinaryBoardFormat#EXTENSION} are read as binary boards, all
+ * others as JSON boards with a {@link StreamingBoardReader}.
+ *
+ * <p>Every board is validated by building it once, and the parsed configuration and the
+ * frozen board are cached. Files are cached by path, modification time and size, so a
+ * board file that changes on disk is read again on its next request and an unchanged one
+ * never is. The board directories are also watched with a {@link WatchService}: when a
+ * board in them changes or is deleted, it is dropped from the cache. Boards are only ever
+ * read by a request, and requests for the same board that arrive while it is being read
+ * wait for that read instead of starting their own.
+ *
+ * <p>Example usage:
+ * <pre>
+ * BoardRepository boards = BoardRepository.shared();
+ * boards.addDirectory(Path.of("my-boards"));
+ * LadderTileLogic logic = boards.getBoard("custom_board.json");
+ * </pre>
+ *
+ * @author didrik
+ * @version 1.0
+ */
+public final class BoardRepository implements AutoCloseable {
+  /** Folder of the resources that boards are looked up in first */
+  public static final String RESOURCE_FOLDER = "boards/";
+  /** Cache key prefix of boards read from the file system */
+  private static final String FILE_PREFIX = "file:";
+  /** Cache key prefix of boards read from the resources */
+  private static final String RESOURCE_PREFIX = "resource:";
+
+  /** Instance shared by the board factory and loaders, created on first use */
+  private static BoardRepository shared;
+
+  /** Parsed boards, keyed by where they were read from */
+  private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+  /** Board directories on the file system, in lookup order */
+  private final List<Path> directories = new CopyOnWriteArrayList<>();
+  /** Number of times a board file was read and parsed */
+  private final AtomicLong loads = new AtomicLong();
+  /** Sink that board loading is published to */
+  private final GameEventSink events;
+  /** Service watching the board directories, created with the first directory */
+  private WatchService watchService;
+
+  /**
+   * Creates a repository that publishes to the sink installed in {@link GameEvents}.
+   */
+  public BoardRepository() {
+    this(GameEvents.sink());
+  }
+
+  /**
+   * Creates a repository that publishes to the given sink.
+   *
+   * @param events the sink to publish board loading to
+   * @throws IllegalArgumentException if the sink is null
+   */
+  public BoardRepository(GameEventSink events) {
+    if (events == null) {
+      throw new IllegalArgumentException("Event sink cannot be null");
+    }
+    this.events = events;
+  }
+
+  /**
+   * Returns the instance shared by the board factory and loaders. The directories listed
+   * in the system property {@code ladder.boards}, separated like a class path, are added
+   * to it when it is created; a directory that cannot be added is published as
+   * {@link GameEventType#BOARD_DIRECTORY_IGNORED} and skipped.
+   *
+   * @return the shared repository
+   */
+  public static synchronized BoardRepository shared() {
+    if (shared == null) {
+      shared = new BoardRepository();
+      String configured = System.getProperty("ladder.boards", "");
+      for (String directory : configured.split(File.pathSeparator)) {
+        if (!directory.isBlank()) {
+          try {
+            shared.addDirectory(Path.of(directory));
+          } catch (IOException | IllegalArgumentException e) {
+            shared.events.publish(GameEventType.BOARD_DIRECTORY_IGNORED,
+                directory + " (" + e.getMessage() + ")", 0, 0);
+          }
+        }
+      }
+    }
+    return shared;
+  }
+
+  /**
+   * Adds a directory to look up boards in and starts watching it for changes.
+   *
+   * @param directory the directory to add
+   * @throws IOException if the directory cannot be watched
+   * @throws IllegalArgumentException if the path is not a directory
+   */
+  public void addDirectory(Path directory) throws IOException {
+    Path normalized = directory.toAbsolutePath().normalize();
+    if (!Files.isDirectory(normalized)) {
+      throw new IllegalArgumentException("Not a directory: " + directory);
+    }
+    if (directories.contains(normalized)) {
+      return;
+    }
+    synchronized (this) {
+      if (watchService == null) {
+        watchService = FileSystems.getDefault().newWatchService();
+        Thread watcher = new Thread(this::watch, "board-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+      }
+      normalized.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+          StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+    }
+    directories.add(normalized);
+  }
+
+  /**
+   * Returns the frozen board with the given name, reading it only if it is not cached or
+   * its file has changed.
+   *
+   * @param name the board file name or path
+   * @return the shared, frozen board
+   * @throws BoardLoadException if the board cannot be found, read or validated
+   */
+  public LadderTileLogic getBoard(String name) throws BoardLoadException {
+    return entry(name).board();
+  }
+
+  /**
+   * Returns the configuration of the board with the given name, reading it only if it is
+   * not cached or its file has changed.
+   *
+   * @param name the board file name or path
+   * @return a copy of the parsed configuration, which the caller may change
+   * @throws BoardLoadException if the board cannot be found, read or validated
+   */
+  public BoardConfig loadConfig(String name) throws BoardLoadException {
+    BoardConfig cached = entry(name).config();
+    BoardConfig copy = new BoardConfig();
+    copy.setBoardSize(cached.getBoardSize());
+    copy.setSpecialTiles(cached.getTileNumbers(), cached.getSpecialValues(),
+        cached.getSpecialTileCount());
+    return copy;
+  }
+
+  /**
+   * Reads the configuration of the board with the given name, looked up as for
+   * {@link #getBoard(String)}, without using or filling the cache. The board is not
+   * validated.
+   *
+   * @param name the board file name or path
+   * @return the parsed configuration, which the caller may change
+   * @throws BoardLoadException if the board cannot be found or read
+   */
+  public BoardConfig readConfig(String name) throws BoardLoadException {
+    checkName(name);
+    Path file = findFile(name);
+    return file != null ? parseFile(file) : parseResource(requireResource(name));
+  }
+
+  /**
+   * Returns the number of times a board file was read and parsed, which does not count
+   * requests served from the cache.
+   *
+   * @return the number of board loads
+   */
+  public long getLoadCount() {
+    return loads.get();
+  }
+
+  /**
+   * Discards all cached boards, so the next requests read them again.
+   */
+  public void clear() {
+    cache.clear();
+  }
+
+  /**
+   * Stops watching the board directories. Boards can still be requested; changed files
+   * are then noticed by their modification time only.
+   */
+  @Override
+  public synchronized void close() {
+    if (watchService != null) {
+      try {
+        watchService.close();
+      } catch (IOException e) {
+        // The watcher thread stops either way
+      }
+    }
+  }
+
+  /**
+   * Finds the board, and returns its cached entry if it is still current or reads it.
+   */
+  private Entry entry(String name) throws BoardLoadException {
+    checkName(name);
+    Path file = findFile(name);
+    if (file != null) {
+      BasicFileAttributes attributes = attributes(file);
+      return load(FILE_PREFIX + file, cached -> cached.isCurrent(attributes),
+          () -> validate(file.toString(), parseFile(file),
+              attributes.lastModifiedTime().toMillis(), attributes.size()));
+    }
+    String resource = requireResource(name);
+    return load(RESOURCE_PREFIX + resource, cached -> true,
+        () -> validate(resource, parseResource(resource), 0, 0));
+  }
+
+  /**
+   * Returns the entry cached under the key if it is still current, and reads it otherwise.
+   * Only one thread reads a key at a time; the others wait and use what it read.
+   */
+  private Entry load(String key, Predicate<Entry> current, EntryReader reader)
+      throws BoardLoadException {
+    Entry cached = cache.get(key);
+    if (cached != null && current.test(cached)) {
+      return cached;
+    }
+    try {
+      return cache.compute(key, (ignored, existing) -> {
+        if (existing != null && current.test(existing)) {
+          return existing;
+        }
+        try {
+          return reader.read();
+        } catch (BoardLoadException e) {
+          throw new ReadFailure(e);
+        }
+      });
+    } catch (ReadFailure e) {
+      throw (BoardLoadException) e.getCause();
+    }
+  }
+
+  private static void checkName(String name) throws BoardLoadException {
+    if (name == null || name.isBlank()) {
+      throw new BoardLoadException("Board name cannot be blank", null);
+    }
+  }
+
+  /**
+   * Looks the name up on the file system and in the board directories.
+   *
+   * @return the normalized absolute path of the board file, or null if there is none
+   */
+  private Path findFile(String name) {
+    try {
+      Path path = Path.of(name);
+      if (Files.isRegularFile(path)) {
+        return path.toAbsolutePath().normalize();
+      }
+      for (Path directory : directories) {
+        Path candidate = directory.resolve(name);
+        if (Files.isRegularFile(candidate)) {
+          return candidate.normalize();
+        }
+      }
+    } catch (InvalidPathException e) {
+      // Not a file name on this file system, but possibly a resource name
+    }
+    return null;
+  }
+
+  /**
+   * Looks the name up in the resources.
+   *
+   * @return the resource name of the board
+   * @throws BoardLoadException if there is no such resource
+   */
+  private String requireResource(String name) throws BoardLoadException {
+    String resource = findResource(name);
+    if (resource == null) {
+      throw new BoardLoadException("Board configuration file not found: " + name, null);
+    }
+    return resource;
+  }
+
+  /**
+   * Looks the name up in the resources.
+   *
+   * @return the resource name of the board, or null if there is none
+   */
+  private String findResource(String name) {
+    ClassLoader loader = BoardRepository.class.getClassLoader();
+    if (loader.getResource(RESOURCE_FOLDER + name) != null) {
+      return RESOURCE_FOLDER + name;
+    }
+    return loader.getResource(name) != null ? name : null;
+  }
+
+  private static BasicFileAttributes attributes(Path file) throws BoardLoadException {
+    try {
+      return Files.readAttributes(file, BasicFileAttributes.class);
+    } catch (IOException e) {
+      throw new BoardLoadException("Failed to read board configuration from " + file, e);
+    }
+  }
+
+  private BoardConfig parseFile(Path file) throws BoardLoadException {
+    BoardConfig config;
+    if (isBinary(file.toString())) {
+      config = BinaryBoardFormat.load(file);
+    } else {
+      try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+        config = StreamingBoardReader.read(reader);
+      } catch (IOException | RuntimeException e) {
+        throw new BoardLoadException("Failed to load board configuration from " + file, e);
+      }
+    }
+    return loaded(file.toString(), config);
+  }
+
+  private BoardConfig parseResource(String resource) throws BoardLoadException {
+    try (InputStream in = BoardRepository.class.getClassLoader()
+        .getResourceAsStream(resource)) {
+      if (in == null) {
+        throw new BoardLoadException("Board configuration file not found: " + resource, null);
+      }
+      BoardConfig config = isBinary(resource)
+          ? BinaryBoardFormat.decode(ByteBuffer.wrap(in.readAllBytes()))
+          : StreamingBoardReader.read(new InputStreamReader(in, StandardCharsets.UTF_8));
+      return loaded(resource, config);
+    } catch (IOException | RuntimeException e) {
+      throw new BoardLoadException("Failed to load board configuration from " + resource, e);
+    }
+  }
+
+  /**
+   * Counts a parsed board and publishes that it was loaded.
+   */
+  private BoardConfig loaded(String source, BoardConfig config) {
+    loads.incrementAndGet();
+    events.publish(GameEventType.BOARD_LOADED, source, 0, 0);
+    return config;
+  }
+
+  /**
+   * Builds the board once to validate it.
+   */
+  private static Entry validate(String source, BoardConfig config, long modified, long size)
+      throws BoardLoadException {
+    LadderTileLogic board;
+    try {
+      LadderBoardBuilder builder = new LadderBoardBuilder(config.getBoardSize());
+      config.addLaddersTo(builder);
+      board = builder.build().freeze();
+    } catch (IllegalArgumentException | IllegalStateException e) {
+      throw new BoardLoadException("Invalid board configuration in " + source, e);
+    }
+    return new Entry(modified, size, config, board);
+  }
+
+  private static boolean isBinary(String name) {
+    return name.endsWith(BinaryBoardFormat.EXTENSION);
+  }
+
+  /**
+   * Drops changed and deleted boards in the watched directories from the cache until the
+   * watch service is closed. The boards are read again by their next request.
+   */
+  private void watch() {
+    while (true) {
+      WatchKey key;
+      try {
+        key = watchService.take();
+      } catch (InterruptedException | ClosedWatchServiceException e) {
+        return;
+      }
+      Path directory = (Path) key.watchable();
+      for (WatchEvent<?> event : key.pollEvents()) {
+        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+          cache.keySet().removeIf(cached -> cached.startsWith(FILE_PREFIX + directory));
+        } else {
+          cache.remove(FILE_PREFIX + directory.resolve((Path) event.context()).normalize());
+        }
+      }
+      key.reset();
+    }
+  }
+
+  /**
+   * Reads a board into a cache entry.
+   */
+  @FunctionalInterface
+  private interface EntryReader {
+    Entry read() throws BoardLoadException;
+  }
+
+  /**
+   * Carries a load error out of {@link ConcurrentHashMap#compute}, which does not allow
+   * checked exceptions.
+   */
+  private static final class ReadFailure extends RuntimeException {
+    ReadFailure(BoardLoadException cause) {
+      super(cause);
+    }
+  }
+
+  /**
+   * A parsed and validated board.
+   *
+   * @param modified the modification time of the file in milliseconds, or 0 for a resource
+   * @param size the size of the file, or 0 for a resource
+   * @param config the parsed configuration
+   * @param board the frozen board
+   */
+  private record Entry(long modified, long size, BoardConfig config, LadderTileLogic board) {
+    /**
+     * Returns whether the file has not changed since the board was read.
+     */
+    boolean isCurrent(BasicFileAttributes attributes) {
+      return modified == attributes.lastModifiedTime().toMillis() && size == attributes.size();
+    }
+  }
+}
@@ -0,0 +1,369 @@
+package modell.gameboard;
+
+import java.util.ArrayList;
+import java.util.List;
+import modell.dice.DiceSet;
+import modell.players.Player;
+import modell.tiles.TileEffect;
+import modell.tiles.TileEngine;
+import modell.tiles.TileLogic;
+
+/**
+ * Runs a ladder game without any user interface.
+ * The engine owns the turn order, the dice, player movement, the special-tile phase
+ * and win detection, and reports what happens to its {@link GameEventListener listeners}.
+ *
+ * <p>A turn is played in the same phases as in the user interface: the dice are rolled,
+ * the player moves by the roll and bounces back from the last tile if the roll overshoots
+ * it, and the effect of the square is applied. A player who ends a turn on the last tile
+ * wins. An extra-throw square gives the same player another turn, and a skip-next-turn
+ * square makes the player sit out their next turn.
+ *
+ * <p>The phases can be stepped one at a time, so that a user interface can animate between
+ * them, or a whole game can be played in a tight loop.
+ *
+ * <p>Example usage:
+ * <pre>
+ * GameEngine engine = new GameEngine(tileLogic, players, new DiceSet(2));
+ * engine.addListener(listener);                // Subscribe to game events
+ * Player winner = engine.playToEnd(10_000);    // Play a whole game
+ * </pre>
+ *
+ * @author didrik
+ * @version 1.0
+ */
+public class GameEngine {
+  /** The board the game is played on */
+  private final TileLogic tileLogic;
+  /** Players in seat order */
+  private final List<Player> players;
+  /** The dice the players roll */
+  private final DiceSet dice;
+  /** Whether the player in each seat sits out their next turn */
+  private final boolean[] skipNextTurn;
+  /** Listeners notified of game events */
+  private final List<GameEventListener> listeners = new ArrayList<>();
+
+  /** Seat index of the player whose turn it is */
+  private int currentSeat;
+  /** The phase that is played next */
+  private GamePhase phase = GamePhase.IDLE;
+  /** The result of the last dice roll */
+  private int lastRoll;
+  /** Packed outcome of the current player's landing, read in the special-tile phase */
+  private int pendingOutcome;
+  /** Number of dice rolls played so far */
+  private int turnCount;
+  /** The winner, or null while the game is running */
+  private Player winner;
+
+  /**
+   * Creates a game on the given board.
+   * Players start from their current positions, and the first player in the list starts.
+   *
+   * @param tileLogic the board to play on; it should not change while the game runs
+   * @param players the players in seat order
+   * @param dice the dice the players roll
+   * @throws IllegalArgumentException if any argument is null or there are no players
+   */
+  public GameEngine(TileLogic tileLogic, List<Player> players, DiceSet dice) {
+    if (tileLogic == null || dice == null) {
+      throw new IllegalArgumentException("Tile logic and dice cannot be null");
+    }
+    if (players == null || players.isEmpty()) {
+      throw new IllegalArgumentException("Game requires at least one player");
+    }
+    this.tileLogic = tileLogic;
+    this.players = List.copyOf(players);
+    this.dice = dice;
+    this.skipNextTurn = new boolean[this.players.size()];
+  }
+
+  /**
+   * Subscribes a listener to the events of this game.
+   *
+   * @param listener the listener to add
+   */
+  public void addListener(GameEventListener listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Unsubscribes a listener from the events of this game.
+   *
+   * @param listener the listener to remove
+   */
+  public void removeListener(GameEventListener listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Plays complete turns until a player wins or the turn limit is reached.
+   *
+   * @param maxTurns the maximum number of dice rolls to play
+   * @return the winner, or null if nobody won within the turn limit
+   */
+  public Player playToEnd(int maxTurns) {
+    while (winner == null && turnCount < maxTurns) {
+      playTurn();
+    }
+    return winner;
+  }
+
+  /**
+   * Plays one complete turn for the current player.
+   *
+   * @return the effect of the square the player landed on
+   * @throws IllegalStateException if the game is over or a turn is already in progress
+   */
+  public TileEffect playTurn() {
+    rollDice();
+    movePlayer();
+    return applySpecialTile();
+  }
+
+  /**
+   * Rolls the dice for the current player.
+   *
+   * @return the sum of the dice
+   * @throws IllegalStateException if the game is over or the dice were already rolled
+   */
+  public int rollDice() {
+    if (phase != GamePhase.IDLE && phase != GamePhase.ROLL_DICE) {
+      throw new IllegalStateException("Dice cannot be rolled in phase " + phase);
+    }
+    checkNotFinished();
+    lastRoll = dice.roll();
+    turnCount++;
+    phase = GamePhase.MOVE_PLAYER;
+    Player player = getCurrentPlayer();
+    for (int i = 0; i < listeners.size(); i++) {
+      listeners.get(i).onDiceRolled(player, lastRoll);
+    }
+    return lastRoll;
+  }
+
+  /**
+   * Moves the current player by the last roll.
+   * A roll that overshoots the last tile bounces back by the overshoot, as resolved by
+   * the {@link TileEngine} of the board.
+   *
+   * @return the tile the player landed on
+   * @throws IllegalStateException if the dice have not been rolled this turn
+   */
+  public int movePlayer() {
+    checkPhase(GamePhase.MOVE_PLAYER);
+    Player player = getCurrentPlayer();
+    int from = player.getPlayerPosition();
+    int raw = from + lastRoll;
+    TileEngine tileEngine = tileLogic.getTileEngine();
+    int landed = tileEngine.bounce(raw);
+
+    pendingOutcome = tileEngine.land(raw);
+    player.setPlayerPosition(landed);
+    phase = GamePhase.SPECIAL_TILE;
+    for (int i = 0; i < listeners.size(); i++) {
+      listeners.get(i).onPlayerMoved(player, from, landed);
+    }
+    return landed;
+  }
+
+  /**
+   * Applies the effect of the square the current player landed on and ends the turn.
+   * The game is won if the player ends up on the last tile. Otherwise the turn passes
+   * to the next player, unless the square grants an extra throw.
+   *
+   * @return the effect of the square
+   * @throws IllegalStateException if the player has not moved this turn
+   */
+  public TileEffect applySpecialTile() {
+    checkPhase(GamePhase.SPECIAL_TILE);
+    Player player = getCurrentPlayer();
+    int landed = player.getPlayerPosition();
+    int target = TileEngine.destination(pendingOutcome);
+    TileEffect effect = TileEngine.effect(pendingOutcome);
+
+    if (target != landed) {
+      player.setPlayerPosition(target);
+    }
+    if (effect != TileEffect.PLAIN) {
+      for (int i = 0; i < listeners.size(); i++) {
+        listeners.get(i).onSpecialTile(player, effect, landed, target);
+      }
+    }
+
+    if (target == tileLogic.getBoardSize()) {
+      winner = player;
+      phase = GamePhase.IDLE;
+      List<Player> standings = getStandings();
+      for (int i = 0; i < listeners.size(); i++) {
+        listeners.get(i).onGameWon(player, standings);
+      }
+      return effect;
+    }
+
+    if (effect == TileEffect.SKIP_NEXT_TURN) {
+      skipNextTurn[currentSeat] = true;
+    }
+    if (effect == TileEffect.EXTRA_THROW) {
+      phase = GamePhase.IDLE;
+      startTurn();
+    } else {
+      nextTurn();
+    }
+    return effect;
+  }
+
+  /**
+   * Ends the current turn and passes it to the next player who is not sitting out.
+   *
+   * @throws IllegalStateException if the game is over
+   */
+  public void nextTurn() {
+    checkNotFinished();
+    int seat = currentSeat;
+    while (true) {
+      seat = (seat + 1) % players.size();
+      if (!skipNextTurn[seat]) {
+        break;
+      }
+      skipNextTurn[seat] = false;
+      Player skipped = players.get(seat);
+      for (int i = 0; i < listeners.size(); i++) {
+        listeners.get(i).onTurnSkipped(skipped);
+      }
+    }
+    currentSeat = seat;
+    phase = GamePhase.IDLE;
+    startTurn();
+  }
+
+  /**
+   * Notifies the listeners that the current player's turn starts.
+   */
+  private void startTurn() {
+    Player player = getCurrentPlayer();
+    for (int i = 0; i < listeners.size(); i++) {
+      listeners.get(i).onTurnStarted(player, currentSeat);
+    }
+  }
+
+  /**
+   * Ensures that the engine is in the given phase and the game is still running.
+   *
+   * @param expected the phase the engine must be in
+   * @throws IllegalStateException if the engine is in another phase or the game is over
+   */
+  private void checkPhase(GamePhase expected) {
+    checkNotFinished();
+    if (phase != expected) {
+      throw new IllegalStateException("Expected phase " + expected + " but was " + phase);
+    }
+  }
+
+  /**
+   * Ensures that the game is still running.
+   *
+   * @throws IllegalStateException if a player has already won
+   */
+  private void checkNotFinished() {
+    if (winner != null) {
+      throw new IllegalStateException("Game is already finished");
+    }
+  }
+
+  /**
+   * Returns the player whose turn it is.
+   *
+   * @return the current player
+   */
+  public Player getCurrentPlayer() {
+    return players.get(currentSeat);
+  }
+
+  /**
+   * Returns the seat index of the player whose turn it is.
+   *
+   * @return the current seat, starting at 0
+   */
+  public int getCurrentSeat() {
+    return currentSeat;
+  }
+
+  /**
+   * Returns the players in seat order.
+   *
+   * @return an unmodifiable list of the players
+   */
+  public List<Player> getPlayers() {
+    return players;
+  }
+
+  /**
+   * Returns the phase that is played next.
+   *
+   * @return the next phase
+   */
+  public GamePhase getPhase() {
+    return phase;
+  }
+
+  /**
+   * Returns the result of the last dice roll.
+   *
+   * @return the last roll, or 0 before the first roll
+   */
+  public int getLastRoll() {
+    return lastRoll;
+  }
+
+  /**
+   * Returns the dice the players roll.
+   *
+   * @return the dice set
+   */
+  public DiceSet getDice() {
+    return dice;
+  }
+
+  /**
+   * Returns the number of dice rolls played so far.
+   * An extra throw counts as a separate roll.
+   *
+   * @return the number of rolls
+   */
+  public int getTurnCount() {
+    return turnCount;
+  }
+
+  /**
+   * Returns whether a player has won the game.
+   *
+   * @return true if the game is over
+   */
+  public boolean isFinished() {
+    return winner != null;
+  }
+
+  /**
+   * Returns the winner of the game.
+   *
+   * @return the winner, or null while the game is running
+   */
+  public Player getWinner() {
+    return winner;
+  }
+
+  /**
+   * Returns the standings of the finished game.
+   *
+   * @return all players, winner first and the others by position descending
+   * @throws IllegalStateException if the game is not finished
+   */
+  public List<Player> getStandings() {
+    if (winner == null) {
+      throw new IllegalStateException("Game is not finished");
+    }
+    return GameResultCalculator.calculateStandings(players, winner);
+  }
+}
@@ -0,0 +1,82 @@
+package modell.gameboard;
+
+import java.util.List;
+import modell.players.Player;
+import modell.tiles.TileEffect;
+
+/**
+ * Receives the events of a game run by a {@link GameEngine}.
+ * Every method has an empty default implementation, so a listener only overrides the
+ * events it cares about. Listeners are called synchronously on the thread that drives
+ * the engine.
+ *
+ * <p>Example usage:
+ * <pre>
+ * engine.addListener(new GameEventListener() {
+ *   public void onGameWon(Player winner, List&lt;Player&gt; standings) {
+ *     System.out.println(winner.getName() + " won");
+ *   }
+ * });
+ * </pre>
+ *
+ * @author didrik
+ * @version 1.0
+ */
+public interface GameEventListener {
+
+  /**
+   * Called when a player's turn starts.
+   *
+   * @param player the player whose turn it is
+   * @param seat the seat index of the player
+   */
+  default void onTurnStarted(Player player, int seat) {
+  }
+
+  /**
+   * Called after a player has rolled the dice.
+   *
+   * @param player the player who rolled
+   * @param total the sum of the dice
+   */
+  default void onDiceRolled(Player player, int total) {
+  }
+
+  /**
+   * Called after a player has moved by their roll, including any bounce-back.
+   *
+   * @param player the player who moved
+   * @param fromTile the tile the player moved from
+   * @param toTile the tile the player landed on
+   */
+  default void onPlayerMoved(Player player, int fromTile, int toTile) {
+  }
+
+  /**
+   * Called when a player lands on a square with a special effect.
+   *
+   * @param player the player who landed on the square
+   * @param effect the effect of the square
+   * @param fromTile the square the player landed on
+   * @param toTile the tile the player ends up on, the same square unless it is a ladder
+   */
+  default void onSpecialTile(Player player, TileEffect effect, int fromTile, int toTile) {
+  }
+
+  /**
+   * Called when a player's turn is skipped.
+   *
+   * @param player the player who loses the turn
+   */
+  default void onTurnSkipped(Player player) {
+  }
+
+  /**
+   * Called when a player reaches the last tile and wins the game.
+   *
+   * @param winner the winning player
+   * @param standings all players, winner first and the others by position descending
+   */
+  default void onGameWon(Player winner, List<Player> standings) {
+  }
+}
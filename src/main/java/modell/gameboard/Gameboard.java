@@ -11,9 +11,10 @@ import modell.tiles.TileLogic;
  *
  * <p>The game board consists of:
  * <ul>
- *     <li>A 100-tile board with ladders and snakes</li>
+ *     <li>A board, usually of 100 tiles, with ladders and snakes</li>
  *     <li>2-6 players who take turns rolling dice and moving</li>
  *     <li>Special tiles that can move players up (ladders) or down (snakes)</li>
+ *     <li>Optionally, tiles that grant an extra throw or skip the next turn</li>
  * </ul>
  *
  * <p>The game flow:
@@ -22,16 +23,20 @@ import modell.tiles.TileLogic;
  *     <li>Set up players (2-6 players)</li>
  *     <li>Players take turns rolling dice and moving</li>
  *     <li>Special tiles are activated when players land on them</li>
- *     <li>First player to reach tile 100 wins</li>
+ *     <li>First player to reach the last tile wins</li>
  * </ol>
  *
+ * <p>Each game board owns its own player state. The tile logic is only read, so a
+ * {@link LadderTileLogic#freeze() frozen} board can be shared by any number of
+ * concurrent games.
+ *
  * @author didrik
  * @version 1.0
  */
 public class Gameboard {
 
-  /** Logic for handling special tiles (ladders and snakes). */
-  private final LadderTileLogic tileLogic;
+  /** Logic for handling special tiles (ladders, snakes and other effects). */
+  private final TileLogic tileLogic;
 
   /** Logic for managing player actions and state. */
   private final PlayerLogic playerLogic;
@@ -44,15 +49,16 @@ public class Gameboard {
 
   /**
    * Creates a new game board with custom tile logic.
+   * Any tile logic is accepted; landings are resolved through its tile engine.
    *
    * @param tileLogic the custom tile logic to use
-   * @throws IllegalArgumentException if the provided tile logic is not a LadderTileLogic
+   * @throws IllegalArgumentException if the provided tile logic is null
    */
   public Gameboard(TileLogic tileLogic) {
-    if (!(tileLogic instanceof LadderTileLogic)) {
-      throw new IllegalArgumentException("Gameboard requires LadderTileLogic");
+    if (tileLogic == null) {
+      throw new IllegalArgumentException("Gameboard requires tile logic");
     }
-    this.tileLogic = (LadderTileLogic) tileLogic;
+    this.tileLogic = tileLogic;
     this.playerLogic = new PlayerLogic(new DiceSet(2));
     this.gameboardLogic = new GameboardLogic();
   }
@@ -80,9 +86,9 @@ public class Gameboard {
   /**
    * Gets the tile logic component.
    *
-   * @return the LadderTileLogic instance
+   * @return the TileLogic instance
    */
-  public LadderTileLogic getTileLogic() {
+  public TileLogic getTileLogic() {
     return tileLogic;
   }
 }
\ No newline at end of file
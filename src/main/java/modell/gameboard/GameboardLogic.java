@@ -1,79 +1,112 @@
 package modell.gameboard;
 
+import modell.events.GameEventSink;
+import modell.events.GameEventType;
+import modell.events.GameEvents;
 import modell.players.Player;
-import modell.tiles.Tile;
+import modell.tiles.TileEffect;
+import modell.tiles.TileEngine;
 import modell.tiles.TileLogic;
 
 /**
  * Handles the core game board logic and rules.
- * This class manages player movement, special tile effects, and win conditions.
+ * This class manages player movement and special tile effects; turns and win detection
+ * are owned by {@link GameEngine}.
  *
  * <p>The game board logic includes:
  * <ul>
  *     <li>Handling player landings on tiles</li>
  *     <li>Managing bounce-back when exceeding board size</li>
- *     <li>Processing special tile effects (ladders and snakes)</li>
- *     <li>Checking win conditions</li>
+ *     <li>Processing special tile effects (ladders, snakes, extra throws and skipped turns)</li>
  * </ul>
  *
+ * <p>Bounces and ladder moves are published to a {@link GameEventSink} instead of being
+ * printed, so the game thread never waits for console output.
+ *
  * @author didrik
  * @version 1.0
  */
 public class GameboardLogic {
-  /** Total number of tiles on the board */
+  /** Number of tiles on a board saved with this logic */
   private static final int BOARD_SIZE = 100;
 
+  /** Sink that moves are published to */
+  private final GameEventSink events;
+
+  /**
+   * Creates the board logic, publishing to the sink installed in {@link GameEvents}.
+   */
+  public GameboardLogic() {
+    this(GameEvents.sink());
+  }
+
+  /**
+   * Creates the board logic, publishing to the given sink.
+   *
+   * @param events the sink to publish moves to
+   * @throws IllegalArgumentException if the sink is null
+   */
+  public GameboardLogic(GameEventSink events) {
+    if (events == null) {
+      throw new IllegalArgumentException("Event sink cannot be null");
+    }
+    this.events = events;
+  }
+
   /**
    * Handles the logic when a player lands on a tile.
    * This method:
    * <ol>
    *     <li>Checks if the player has exceeded the board size and bounces them back if necessary</li>
-   *     <li>Checks if the landed tile is a special tile (ladder or snake)</li>
-   *     <li>Applies any special tile effects</li>
+   *     <li>Checks if the landed tile is a special tile</li>
+   *     <li>Applies any movement from a ladder or snake</li>
    * </ol>
    *
+   * <p>Bounce-back and the tile effect are resolved by the {@link TileEngine} of the tile
+   * logic, against the size of that board, so the rules match those of {@link GameEngine}.
+   * Extra throws and skipped turns do not move the player; they are returned so the
+   * caller can apply them to the turn order.
+   *
    * @param player the player who landed on the tile
    * @param tileLogic the tile logic component for handling special tiles
+   * @return the effect of the tile the player landed on
    */
-  public void handlePlayerLanding(Player player, TileLogic tileLogic) {
-    int currentPos = player.getPlayerPosition();
+  public TileEffect handlePlayerLanding(Player player, TileLogic tileLogic) {
+    int rawPos = player.getPlayerPosition();
+    TileEngine engine = tileLogic.getTileEngine();
+    int currentPos = engine.bounce(rawPos);
 
-    if (currentPos > BOARD_SIZE) {
-      int bounce = currentPos - BOARD_SIZE;
-      currentPos = BOARD_SIZE - bounce;
+    if (currentPos != rawPos) {
       player.setPlayerPosition(currentPos);
-      System.out.println(player.getName() + " bounced back to " + currentPos);
+      events.publish(GameEventType.BOUNCED_BACK, player.getName(), currentPos,
+          rawPos - engine.getBoardSize());
     }
 
-    Tile currentTile = tileLogic.getTileByNumber(currentPos);
-    if (currentTile != null && currentTile.getEffect() != 0) {
-      movePlayerSpecial(player, currentTile);
+    int outcome = engine.land(rawPos);
+    int effect = TileEngine.destination(outcome) - currentPos;
+    if (effect != 0) {
+      movePlayerSpecial(player, effect);
     }
+    return TileEngine.effect(outcome);
   }
 
   /**
    * Moves a player based on a special tile effect.
-   * Updates the player's position and provides feedback about the movement.
+   * Updates the player's position and publishes the movement.
    *
    * @param player the player to move
-   * @param tile the special tile that was landed on
+   * @param effect the effect of the special tile that was landed on
    */
-  private void movePlayerSpecial(Player player, Tile tile) {
-    int newPos = player.getPlayerPosition() + tile.getEffect();
+  private void movePlayerSpecial(Player player, int effect) {
+    int newPos = player.getPlayerPosition() + effect;
     player.setPlayerPosition(newPos);
-
-    String moveType;
-    if (tile.getEffect() > 0) {
-      moveType = "climbed a ladder to";
-    } else {
-      moveType = "fell down a ladder to";
-    }
-    System.out.println(player.getName() + " " + moveType + " " + newPos);
+    events.publish(effect > 0 ? GameEventType.LADDER_CLIMBED : GameEventType.LADDER_FALLEN,
+        player.getName(), newPos, Math.abs(effect));
   }
 
 
   /**
-   * Gets the total number of tiles on the board.
+   * Gets the number of tiles on a board saved with this logic.
    *
    * @return the board size
    */
@@ -1,15 +1,20 @@
 package modell.gameboard;
 
-import com.google.gson.*;
-import modell.tiles.LadderTile;
+import modell.exceptions.BoardLoadException;
+import modell.tiles.LadderBoardBuilder;
 import modell.tiles.LadderTileLogic;
 import modell.tiles.TileLogic;
-import java.io.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class LadderGameBoardFactory {
 
   private static final int MAX_BOARD_SIZE = 1000;
 
+  /** Frozen boards for the predefined board types, shared by every game in the process */
+  private static final Map<LadderBoardType, LadderTileLogic> TYPE_TEMPLATES =
+      new ConcurrentHashMap<>();
+
   public LadderTileLogic createTileLogic() {
     return new LadderTileLogic();
   }
@@ -22,12 +27,67 @@ public class LadderGameBoardFactory {
       throw new IllegalArgumentException("Board size exceeds maximum allowed value of " + MAX_BOARD_SIZE);
     }
 
-    for (int i = 1; i <= size; i++) {
-      logic.addTile(new LadderTile(i, 0));
-    }
+    logic.fillPlainTiles(size);
+  }
+
+  public LadderTileLogic createBoard(BoardConfig config) {
+    LadderBoardBuilder builder = new LadderBoardBuilder(config.getBoardSize());
+    config.addLaddersTo(builder);
+    return builder.build();
   }
 
+  /**
+   * Returns a frozen board for the given type, or for the given board file if a file name
+   * is set. Each board is built and validated once per process; later calls hand out the
+   * same immutable instance, which is safe to share between games.
+   *
+   * @param type the board type to create
+   * @param fileName optional board file in the resources' boards folder, or null; files
+   *        ending in {@value BinaryBoardFormat#EXTENSION} are read as binary boards
+   * @return a shared, frozen board
+   */
   public TileLogic createBoard(LadderBoardType type, String fileName) {
+    if (fileName != null) {
+      return getFileTemplate(fileName);
+    }
+    return getTemplate(type);
+  }
+
+  /**
+   * Returns the shared, frozen board for a predefined board type.
+   *
+   * @param type the board type
+   * @return the frozen board template
+   */
+  public LadderTileLogic getTemplate(LadderBoardType type) {
+    return TYPE_TEMPLATES.computeIfAbsent(type, t -> buildBoard(t).freeze());
+  }
+
+  /**
+   * Returns the shared, frozen board loaded from a board file through the shared
+   * {@link BoardRepository}, which reads the file again only when it changes.
+   *
+   * @param fileName the board file, looked up as described in {@link BoardRepository}
+   * @return the frozen board template
+   * @throws IllegalArgumentException if the board cannot be loaded
+   */
+  public LadderTileLogic getFileTemplate(String fileName) {
+    try {
+      return BoardRepository.shared().getBoard(fileName);
+    } catch (BoardLoadException e) {
+      throw new IllegalArgumentException("Failed to load board from file: " + fileName, e);
+    }
+  }
+
+  /**
+   * Discards all cached board templates, so the next request builds them again.
+   */
+  public static void clearTemplates() {
+    TYPE_TEMPLATES.clear();
+    BoardRepository.shared().clear();
+  }
+
+  private LadderTileLogic buildBoard(LadderBoardType type) {
     switch (type) {
       case STANDARD:
         return createStandardBoard();
@@ -48,162 +108,143 @@ public class LadderGameBoardFactory {
     }
   }
 
-  private TileLogic createStandardBoard() {
-    LadderTileLogic logic = createTileLogic();
-    generateBoard(logic, 100);
-    setStandardTiles(logic);
-    return logic;
-  }
-
-  private TileLogic createManyLaddersBoard() {
-    LadderTileLogic logic = createTileLogic();
-    generateBoard(logic, 100);
-    setManyLaddersTiles(logic);
-    return logic;
-  }
-
-  private TileLogic createFewLaddersBoard() {
-    LadderTileLogic logic = createTileLogic();
-    generateBoard(logic, 100);
-    setFewLaddersTiles(logic);
-    return logic;
-  }
-
-  private TileLogic createOnlyUpBoard() {
-    LadderTileLogic logic = createTileLogic();
-    generateBoard(logic, 100);
-    setUpLaddersTiles(logic);
-    return logic;
-  }
-
-  private TileLogic createOnlyDownBoard() {
-    LadderTileLogic logic = createTileLogic();
-    generateBoard(logic, 100);
-    setDownLaddersTiles(logic);
-    return logic;
-  }
-
-  private TileLogic createOnlyShortBoard() {
-    LadderTileLogic logic = createTileLogic();
-    generateBoard(logic, 100);
-    logic.addLadder(5,10 );
-    logic.addLadder(12, -3);
-    logic.addLadder(18, 4);
-    logic.addLadder(21, -3);
-    logic.addLadder(34, -5);
-    logic.addLadder(37, 6);
-    logic.addLadder(48, 6);
-    logic.addLadder(55, -8);
-    logic.addLadder(70, -2);
-    logic.addLadder(74, 7);
-    logic.addLadder(88, 4);
-    logic.addLadder(94, -10);
-    return logic;
-  }
-
-
-  private TileLogic createOnlyLongBoard() {
-    LadderTileLogic logic = createTileLogic();
-    generateBoard(logic, 100);
-    logic.addLadder(5, 40);
-    logic.addLadder(13, 70);
-    logic.addLadder(20, -19);
-    logic.addLadder(35, 60);
-    logic.addLadder(60, -38);
-    logic.addLadder(75, 24);
-    logic.addLadder(90, -80);
-    logic.addLadder(40, -33);
-    return logic;
-  }
-
-  private void setStandardTiles(LadderTileLogic logic) {
-    logic.addLadder(2, 32);
-    logic.addLadder(8, 8);
-    logic.addLadder(28, 30);
-    logic.addLadder(40, 20);
-    logic.addLadder(73, 10);
-    logic.addLadder(80, 12);
-    logic.addLadder(12, -3);
-    logic.addLadder(24, -6);
-    logic.addLadder(57, -15);
-    logic.addLadder(64, -29);
-    logic.addLadder(78, -10);
-    logic.addLadder(98, -60);
-  }
-
-  private void setManyLaddersTiles(LadderTileLogic logic) {
-
-    logic.addLadder(3, 7);
-    logic.addLadder(7, -5);
-    logic.addLadder(12, 6);
-    logic.addLadder(15, -4);
-    logic.addLadder(20, 8);
-    logic.addLadder(25, -6);
-    logic.addLadder(30, 5);
-    logic.addLadder(35, -7);
-    logic.addLadder(40, 6);
-    logic.addLadder(45, -5);
-    logic.addLadder(50, 7);
-    logic.addLadder(55, -6);
-    logic.addLadder(60, 5);
-    logic.addLadder(65, -4);
-    logic.addLadder(70, 8);
-    logic.addLadder(75, -7);
-    logic.addLadder(80, 6);
-    logic.addLadder(85, -5);
-    logic.addLadder(90, 7);
-    logic.addLadder(95, -4);
-  }
-
-  private void setFewLaddersTiles(LadderTileLogic logic) {
-    logic.addLadder(12, 50);
-    logic.addLadder(45, 40);
-    logic.addLadder(30, -28);
-    logic.addLadder(91, -82);
-  }
-
-  private void setUpLaddersTiles(LadderTileLogic logic) {
-    logic.addLadder(10, 15);
-    logic.addLadder(25, 20);
-    logic.addLadder(40, 25);
-    logic.addLadder(55, 30);
-    logic.addLadder(70, 20);
-  }
-
-  private void setDownLaddersTiles(LadderTileLogic logic) {
-    logic.addLadder(20, -15);
-    logic.addLadder(38, -16);
-    logic.addLadder(50, -20);
-    logic.addLadder(65, -10);
-    logic.addLadder(80, -70);
-    logic.addLadder(99, -80);
-  }
-
+  private LadderTileLogic createStandardBoard() {
+    LadderBoardBuilder builder = new LadderBoardBuilder(100);
+    setStandardTiles(builder);
+    return builder.build();
+  }
+
+  private LadderTileLogic createManyLaddersBoard() {
+    LadderBoardBuilder builder = new LadderBoardBuilder(100);
+    setManyLaddersTiles(builder);
+    return builder.build();
+  }
+
+  private LadderTileLogic createFewLaddersBoard() {
+    LadderBoardBuilder builder = new LadderBoardBuilder(100);
+    setFewLaddersTiles(builder);
+    return builder.build();
+  }
+
+  private LadderTileLogic createOnlyUpBoard() {
+    LadderBoardBuilder builder = new LadderBoardBuilder(100);
+    setUpLaddersTiles(builder);
+    return builder.build();
+  }
+
+  private LadderTileLogic createOnlyDownBoard() {
+    LadderBoardBuilder builder = new LadderBoardBuilder(100);
+    setDownLaddersTiles(builder);
+    return builder.build();
+  }
+
+  private LadderTileLogic createOnlyShortBoard() {
+    LadderBoardBuilder builder = new LadderBoardBuilder(100);
+    builder.addLadder(5, 10);
+    builder.addLadder(12, -3);
+    builder.addLadder(18, 4);
+    builder.addLadder(21, -3);
+    builder.addLadder(34, -5);
+    builder.addLadder(37, 6);
+    builder.addLadder(48, 6);
+    builder.addLadder(55, -8);
+    builder.addLadder(70, -2);
+    builder.addLadder(74, 7);
+    builder.addLadder(88, 4);
+    builder.addLadder(94, -10);
+    return builder.build();
+  }
+
+
+  private LadderTileLogic createOnlyLongBoard() {
+    LadderBoardBuilder builder = new LadderBoardBuilder(100);
+    builder.addLadder(5, 40);
+    builder.addLadder(13, 70);
+    builder.addLadder(20, -19);
+    builder.addLadder(35, 60);
+    builder.addLadder(60, -38);
+    builder.addLadder(75, 24);
+    builder.addLadder(90, -80);
+    builder.addLadder(40, -33);
+    return builder.build();
+  }
+
+  private void setStandardTiles(LadderBoardBuilder builder) {
+    builder.addLadder(2, 32);
+    builder.addLadder(8, 8);
+    builder.addLadder(28, 30);
+    builder.addLadder(40, 20);
+    builder.addLadder(73, 10);
+    builder.addLadder(80, 12);
+    builder.addLadder(12, -3);
+    builder.addLadder(24, -6);
+    builder.addLadder(57, -15);
+    builder.addLadder(64, -29);
+    builder.addLadder(78, -10);
+    builder.addLadder(98, -60);
+  }
+
+  private void setManyLaddersTiles(LadderBoardBuilder builder) {
+
+    builder.addLadder(3, 7);
+    builder.addLadder(7, -5);
+    builder.addLadder(12, 6);
+    builder.addLadder(15, -4);
+    builder.addLadder(20, 8);
+    builder.addLadder(25, -6);
+    builder.addLadder(30, 5);
+    builder.addLadder(35, -7);
+    builder.addLadder(40, 6);
+    builder.addLadder(45, -5);
+    builder.addLadder(50, 7);
+    builder.addLadder(55, -6);
+    builder.addLadder(60, 5);
+    builder.addLadder(65, -4);
+    builder.addLadder(70, 8);
+    builder.addLadder(75, -7);
+    builder.addLadder(80, 6);
+    builder.addLadder(85, -5);
+    builder.addLadder(90, 7);
+    builder.addLadder(95, -4);
+  }
+
+  private void setFewLaddersTiles(LadderBoardBuilder builder) {
+    builder.addLadder(12, 50);
+    builder.addLadder(45, 40);
+    builder.addLadder(30, -28);
+    builder.addLadder(91, -82);
+  }
+
+  private void setUpLaddersTiles(LadderBoardBuilder builder) {
+    builder.addLadder(10, 15);
+    builder.addLadder(25, 20);
+    builder.addLadder(40, 25);
+    builder.addLadder(55, 30);
+    builder.addLadder(70, 20);
+  }
+
+  private void setDownLaddersTiles(LadderBoardBuilder builder) {
+    builder.addLadder(20, -15);
+    builder.addLadder(38, -16);
+    builder.addLadder(50, -20);
+    builder.addLadder(65, -10);
+    builder.addLadder(80, -70);
+    builder.addLadder(99, -80);
+  }
+
+  /**
+   * Loads a board file into a new, unfrozen board. The file is looked up through the
+   * shared {@link BoardRepository} but read without its cache.
+   *
+   * @param fileName the board file, looked up as described in {@link BoardRepository}
+   * @return a new board
+   * @throws IllegalArgumentException if the board cannot be loaded
+   */
   public LadderTileLogic loadTileLogicFromFile(String fileName) {
-    System.out.println("Loading board file: boards/" + fileName);
-
-    try (InputStream is = getClass().getClassLoader().getResourceAsStream("boards/" + fileName)) {
-      if (is == null) throw new FileNotFoundException("File not found in resources: boards/" + fileName);
-
-      JsonObject jsonObject = JsonParser.parseReader(new InputStreamReader(is)).getAsJsonObject();
-      int boardSize = jsonObject.get("boardSize").getAsInt();
-
-      LadderTileLogic logic = createTileLogic();
-      generateBoard(logic, boardSize);
-
-      JsonArray specialTiles = jsonObject.getAsJsonArray("specialTiles");
-      if (specialTiles != null) {
-        for (JsonElement element : specialTiles) {
-          JsonObject tileObj = element.getAsJsonObject();
-          int tileNumber = tileObj.get("tileNumber").getAsInt();
-          int specialValue = tileObj.get("specialValue").getAsInt();
-          logic.addLadder(tileNumber, specialValue);
-        }
-      }
-
-      return logic;
-    } catch (IOException e) {
-      throw new RuntimeException("Failed to load board from file: " + fileName, e);
+    try {
+      return createBoard(BoardRepository.shared().readConfig(fileName));
+    } catch (BoardLoadException e) {
+      throw new IllegalArgumentException("Failed to load board from file: " + fileName, e);
     }
   }
 }
@@ -0,0 +1,121 @@
+package modell.gameboard;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Reads board files token by token, without building a JSON tree first.
+ * The special tiles are collected straight into two parallel int arrays, which are handed
+ * to the {@link BoardConfig} as they are, so a board with many special tiles is read with
+ * a handful of allocations instead of an object per tile and per value.
+ *
+ * <p>The board file is a JSON object with a {@code boardSize} and a {@code specialTiles}
+ * array of objects with a {@code tileNumber} and a {@code specialValue}. The keys may come
+ * in any order, and keys the reader does not know are skipped. Boards saved by earlier
+ * versions name the special value {@code ladderValue}, which is read as well.
+ *
+ * <p>Example usage:
+ * <pre>
+ * try (Reader reader = Files.newBufferedReader(path)) {
+ *   BoardConfig config = StreamingBoardReader.read(reader);
+ *   LadderTileLogic logic = new LadderGameBoardFactory().createBoard(config);
+ * }
+ * </pre>
+ *
+ * @author didrik
+ * @version 1.0
+ */
+public final class StreamingBoardReader {
+  /** Number of special tiles the arrays start out with */
+  private static final int INITIAL_CAPACITY = 64;
+
+  /**
+   * Reads a board configuration from a JSON document. The reader is not closed.
+   *
+   * @param source the JSON document
+   * @return the board size and the special tiles in the order they appear in the document
+   * @throws IOException if the document cannot be read or is not well-formed JSON
+   * @throws IllegalArgumentException if the board size or a field of a special tile is
+   *         missing
+   * @throws IllegalStateException if a value has the wrong JSON type
+   */
+  public static BoardConfig read(Reader source) throws IOException {
+    JsonReader reader = new JsonReader(source);
+    int boardSize = 0;
+    boolean hasBoardSize = false;
+    int[] tileNumbers = new int[INITIAL_CAPACITY];
+    int[] specialValues = new int[INITIAL_CAPACITY];
+    int count = 0;
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case "boardSize" -> {
+          boardSize = reader.nextInt();
+          hasBoardSize = true;
+        }
+        case "specialTiles" -> {
+          if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            break;
+          }
+          reader.beginArray();
+          while (reader.hasNext()) {
+            if (count == tileNumbers.length) {
+              tileNumbers = Arrays.copyOf(tileNumbers, count * 2);
+              specialValues = Arrays.copyOf(specialValues, count * 2);
+            }
+            readSpecialTile(reader, tileNumbers, specialValues, count);
+            count++;
+          }
+          reader.endArray();
+        }
+        default -> reader.skipValue();
+      }
+    }
+    reader.endObject();
+
+    if (!hasBoardSize) {
+      throw new IllegalArgumentException("Board file has no boardSize");
+    }
+    BoardConfig config = new BoardConfig();
+    config.setBoardSize(boardSize);
+    config.setSpecialTiles(tileNumbers, specialValues, count);
+    return config;
+  }
+
+  /**
+   * Reads one special tile object into the arrays at the given index.
+   *
+   * @throws IllegalArgumentException if the tile number or the special value is missing
+   */
+  private static void readSpecialTile(JsonReader reader, int[] tileNumbers,
+                                      int[] specialValues, int index) throws IOException {
+    boolean hasTileNumber = false;
+    boolean hasSpecialValue = false;
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case "tileNumber" -> {
+          tileNumbers[index] = reader.nextInt();
+          hasTileNumber = true;
+        }
+        case "specialValue", "ladderValue" -> {
+          specialValues[index] = reader.nextInt();
+          hasSpecialValue = true;
+        }
+        default -> reader.skipValue();
+      }
+    }
+    reader.endObject();
+    if (!hasTileNumber || !hasSpecialValue) {
+      throw new IllegalArgumentException("Special tile " + (index + 1)
+          + " needs a tileNumber and a specialValue");
+    }
+  }
+
+  private StreamingBoardReader() {}
+}
@@ -1,6 +1,9 @@
 package modell.players;
 
 import modell.dice.DiceSet;
+import modell.events.GameEventSink;
+import modell.events.GameEventType;
+import modell.events.GameEvents;
 import java.util.ArrayList;
 
 /**
@@ -11,13 +14,13 @@ import java.util.ArrayList;
  *
  * <p>Players can be added individually or generated in bulk.
  * Each player is assigned a default token upon creation.
+ * Moves are published to a {@link GameEventSink}.
  *
  * <p>Example usage:
  * <pre>
  * PlayerLogic playerLogic = new PlayerLogic(new DiceSet(2));
  * playerLogic.addPlayer("John");
  * playerLogic.movePlayer(0);  // Move the first player
- * playerLogic.printPlayerStatus();  // Display all players' positions
  * </pre>
  *
  * @author Sondre Odberg
@@ -29,6 +32,8 @@ public class PlayerLogic {
   private final DiceSet diceSet;
   /** The list of all players in the game */
   private ArrayList<Player> playerList = new ArrayList<>();
+  /** Sink that moves are published to */
+  private final GameEventSink events;
 
   /**
    * Constructs a new PlayerLogic with the specified dice set.
@@ -37,8 +42,23 @@ public class PlayerLogic {
    * @param diceSet the dice set used for player movements
    */
   public PlayerLogic(DiceSet diceSet) {
+    this(diceSet, GameEvents.sink());
+  }
+
+  /**
+   * Constructs a new PlayerLogic that publishes moves to the given sink.
+   *
+   * @param diceSet the dice set used for player movements
+   * @param events the sink to publish moves to
+   * @throws IllegalArgumentException if the sink is null
+   */
+  public PlayerLogic(DiceSet diceSet, GameEventSink events) {
+    if (events == null) {
+      throw new IllegalArgumentException("Event sink cannot be null");
+    }
     this.diceSet = diceSet;
     this.playerList = new ArrayList<>();
+    this.events = events;
   }
 
   /**
@@ -88,7 +108,7 @@ public class PlayerLogic {
     Player player = playerList.get(playerIndex);
     int roll = diceSet.roll();
     player.setPlayerPosition(player.getPlayerPosition() + roll);
-    System.out.println(player.getName() + " rolled " + roll + ", moved to position " + player.getPlayerPosition());
+    events.publish(GameEventType.PLAYER_MOVED, player.getName(), player.getPlayerPosition(), roll);
   }
 
 }
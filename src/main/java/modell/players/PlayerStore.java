@@ -0,0 +1,214 @@
+package modell.players;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact state of the players in a game, kept in primitive arrays indexed by seat.
+ * Where {@link PlayerLogic} holds a list of {@link Player} objects, the store keeps the
+ * positions, skip-turn flags and turn counters of all seats side by side, so a
+ * simulation can play millions of games without creating or validating an object per
+ * move. The move methods do no checks and print nothing; {@link Player} objects are only
+ * created when the result of a game is reported.
+ *
+ * <p>A store is reused between games with {@link #reset()}.
+ *
+ * <p>Example usage:
+ * <pre>
+ * PlayerStore store = new PlayerStore(List.of("Anna", "Ola"));
+ * store.moveBy(0, 7);                      // Silent move of the first seat
+ * List&lt;Player&gt; players = store.toPlayers();  // Objects for the result
+ * </pre>
+ *
+ * @author didrik
+ * @version 1.0
+ */
+public final class PlayerStore {
+  /** Names of the players, used when they are materialized */
+  private final String[] names;
+  /** Current tile of each seat */
+  private final int[] positions;
+  /** Whether each seat sits out its next turn */
+  private final boolean[] skipNextTurn;
+  /** Number of dice rolls played by each seat */
+  private final int[] turns;
+
+  /**
+   * Creates a store for the given number of players named "Player 1", "Player 2" and so on.
+   *
+   * @param playerCount the number of seats
+   * @throws IllegalArgumentException if the count is not positive
+   */
+  public PlayerStore(int playerCount) {
+    this(defaultNames(playerCount));
+  }
+
+  /**
+   * Creates a store for players with the given names, in seat order.
+   *
+   * @param names the names of the players
+   * @throws IllegalArgumentException if there are no names or a name is blank
+   */
+  public PlayerStore(List<String> names) {
+    if (names == null || names.isEmpty()) {
+      throw new IllegalArgumentException("Player store requires at least one player");
+    }
+    for (String name : names) {
+      if (name == null || name.isBlank()) {
+        throw new IllegalArgumentException("Player name cannot be blank");
+      }
+    }
+    this.names = names.toArray(new String[0]);
+    this.positions = new int[this.names.length];
+    this.skipNextTurn = new boolean[this.names.length];
+    this.turns = new int[this.names.length];
+  }
+
+  /**
+   * Creates a store with the names and positions of the given players.
+   *
+   * @param players the players in seat order
+   * @return a new store
+   * @throws IllegalArgumentException if there are no players
+   */
+  public static PlayerStore of(List<Player> players) {
+    if (players == null || players.isEmpty()) {
+      throw new IllegalArgumentException("Player store requires at least one player");
+    }
+    List<String> names = new ArrayList<>(players.size());
+    for (Player player : players) {
+      names.add(player.getName());
+    }
+    PlayerStore store = new PlayerStore(names);
+    for (int seat = 0; seat < players.size(); seat++) {
+      store.positions[seat] = players.get(seat).getPlayerPosition();
+    }
+    return store;
+  }
+
+  private static List<String> defaultNames(int playerCount) {
+    if (playerCount <= 0) {
+      throw new IllegalArgumentException("Player count must be positive");
+    }
+    List<String> names = new ArrayList<>(playerCount);
+    for (int seat = 0; seat < playerCount; seat++) {
+      names.add("Player " + (seat + 1));
+    }
+    return names;
+  }
+
+  /**
+   * Moves every seat back to the start and clears the flags and counters.
+   */
+  public void reset() {
+    Arrays.fill(positions, 0);
+    Arrays.fill(skipNextTurn, false);
+    Arrays.fill(turns, 0);
+  }
+
+  /**
+   * Returns the number of seats.
+   *
+   * @return the number of players
+   */
+  public int size() {
+    return names.length;
+  }
+
+  /**
+   * Returns the tile a seat stands on.
+   *
+   * @param seat the seat index
+   * @return the current position
+   */
+  public int getPosition(int seat) {
+    return positions[seat];
+  }
+
+  /**
+   * Places a seat on a tile, without validation.
+   *
+   * @param seat the seat index
+   * @param tile the new position
+   */
+  public void moveTo(int seat, int tile) {
+    positions[seat] = tile;
+  }
+
+  /**
+   * Moves a seat by a number of tiles, without validation.
+   *
+   * @param seat the seat index
+   * @param steps the number of tiles to move
+   * @return the new position
+   */
+  public int moveBy(int seat, int steps) {
+    return positions[seat] += steps;
+  }
+
+  /**
+   * Returns whether a seat sits out its next turn.
+   *
+   * @param seat the seat index
+   * @return true if the next turn is skipped
+   */
+  public boolean isSkippingNextTurn(int seat) {
+    return skipNextTurn[seat];
+  }
+
+  /**
+   * Sets whether a seat sits out its next turn.
+   *
+   * @param seat the seat index
+   * @param skip true to skip the next turn
+   */
+  public void setSkipNextTurn(int seat, boolean skip) {
+    skipNextTurn[seat] = skip;
+  }
+
+  /**
+   * Returns the number of dice rolls a seat has played.
+   *
+   * @param seat the seat index
+   * @return the number of rolls
+   */
+  public int getTurns(int seat) {
+    return turns[seat];
+  }
+
+  /**
+   * Counts a dice roll for a seat.
+   *
+   * @param seat the seat index
+   * @return the new number of rolls
+   */
+  public int countTurn(int seat) {
+    return ++turns[seat];
+  }
+
+  /**
+   * Creates a player object with the name and position of a seat.
+   *
+   * @param seat the seat index
+   * @return a new player
+   */
+  public Player toPlayer(int seat) {
+    Player player = new Player(names[seat], PlayerToken.DEFAULT);
+    player.setPlayerPosition(positions[seat]);
+    return player;
+  }
+
+  /**
+   * Creates player objects for all seats, in seat order.
+   *
+   * @return a new list of players
+   */
+  public List<Player> toPlayers() {
+    List<Player> players = new ArrayList<>(names.length);
+    for (int seat = 0; seat < names.length; seat++) {
+      players.add(toPlayer(seat));
+    }
+    return players;
+  }
+}
@@ -0,0 +1,131 @@
+package modell.simulation;
+
+import modell.dice.DiceSet;
+import modell.tiles.TileEffect;
+import modell.tiles.TileEngine;
+
+/**
+ * Plays a batch of independent games in lockstep on one thread.
+ * Every lane holds one game in flat primitive arrays: the positions and skip flags of its
+ * players, the seat to move and the number of rolls so far. Each step rolls one sum per
+ * lane in bulk and then moves every lane's current player with a single loop, in which
+ * the bounce-back from the last tile and the effect of the square come from one lookup
+ * in the board's {@link TileEngine}. A lane whose game ends starts the next game right
+ * away, so the lanes stay full until the batch runs out of games.
+ *
+ * <p>The rules are those of {@link modell.gameboard.GameEngine}.
+ * Lanes are stepped in a fixed order, so a batch is reproducible with seeded dice.
+ *
+ * @author didrik
+ * @version 1.0
+ */
+final class LockstepBatch {
+  /** Largest number of games played side by side */
+  static final int MAX_LANES = 256;
+
+  /** Compiled board the games are played on */
+  private final TileEngine tileEngine;
+  /** Number of players per game */
+  private final int playerCount;
+  /** Number of dice rolls after which a game is abandoned */
+  private final int maxTurns;
+  /** The dice rolled for every lane */
+  private final DiceSet dice;
+
+  /**
+   * Creates a batch engine.
+   *
+   * @param tileEngine the compiled board
+   * @param playerCount the number of players per game
+   * @param maxTurns the number of dice rolls after which a game is abandoned
+   * @param dice the dice to roll, preferably in sum-sampling mode
+   */
+  LockstepBatch(TileEngine tileEngine, int playerCount, int maxTurns, DiceSet dice) {
+    this.tileEngine = tileEngine;
+    this.playerCount = playerCount;
+    this.maxTurns = maxTurns;
+    this.dice = dice;
+  }
+
+  /**
+   * Plays the given number of games and counts their results.
+   *
+   * @param games the number of games to play
+   * @return the counters of the batch
+   */
+  SimulationStats play(long games) {
+    SimulationStats stats = new SimulationStats(playerCount);
+    if (games == 0) {
+      return stats;
+    }
+    TileEngine engine = tileEngine;
+    int players = playerCount;
+    int limit = maxTurns;
+    int boardSize = engine.getBoardSize();
+    int extraThrow = TileEffect.EXTRA_THROW.ordinal();
+    int skipNextTurn = TileEffect.SKIP_NEXT_TURN.ordinal();
+
+    int active = (int) Math.min(MAX_LANES, games);
+    long remaining = games - active;
+    int[] positions = new int[active * players];
+    boolean[] skips = new boolean[active * players];
+    int[] seats = new int[active];
+    int[] turns = new int[active];
+    int[] rolls = new int[active];
+
+    while (active > 0) {
+      dice.rollInto(rolls, 0, active);
+      for (int lane = 0; lane < active; lane++) {
+        int base = lane * players;
+        int seat = seats[lane];
+        int outcome = engine.land(positions[base + seat] + rolls[lane]);
+        int target = TileEngine.destination(outcome);
+        positions[base + seat] = target;
+        int turn = ++turns[lane];
+
+        if (target == boardSize || turn == limit) {
+          stats.record(target == boardSize ? seat : -1, turn);
+          if (remaining > 0) {
+            remaining--;
+          } else {
+            // Move the last lane into this one; it takes its next step with the others
+            active--;
+            if (lane == active) {
+              break;
+            }
+            int last = active * players;
+            System.arraycopy(positions, last, positions, base, players);
+            System.arraycopy(skips, last, skips, base, players);
+            seats[lane] = seats[active];
+            turns[lane] = turns[active];
+            continue;
+          }
+          for (int slot = base; slot < base + players; slot++) {
+            positions[slot] = 0;
+            skips[slot] = false;
+          }
+          seats[lane] = 0;
+          turns[lane] = 0;
+          continue;
+        }
+
+        int effect = TileEngine.effectCode(outcome);
+        if (effect == extraThrow) {
+          continue;
+        }
+        if (effect == skipNextTurn) {
+          skips[base + seat] = true;
+        }
+        while (true) {
+          seat = seat + 1 == players ? 0 : seat + 1;
+          if (!skips[base + seat]) {
+            break;
+          }
+          skips[base + seat] = false;
+        }
+        seats[lane] = seat;
+      }
+    }
+    return stats;
+  }
+}
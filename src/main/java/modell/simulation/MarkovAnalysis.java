@@ -0,0 +1,118 @@
+package modell.simulation;
+
+/**
+ * Immutable result of a {@link MarkovChainAnalyzer}.
+ * All turn counts are dice rolls of a single player starting at tile 0.
+ *
+ * @author didrik
+ * @version 1.0
+ */
+public final class MarkovAnalysis {
+  /** Expected turns to finish, indexed by the tile the player starts from */
+  private final double[] expectedTurns;
+  /** Probability of finishing on exactly each turn, indexed by turn */
+  private final double[] turnProbabilities;
+  /** Expected number of turns that end on each tile, indexed by tile */
+  private final double[] expectedVisits;
+  /** Probability mass not yet finished when the distribution was cut off */
+  private final double truncatedMass;
+
+  /**
+   * Creates an analysis result.
+   *
+   * @param expectedTurns the expected turns indexed by starting tile
+   * @param turnProbabilities the probability of finishing on each turn
+   * @param expectedVisits the expected turns ending on each tile
+   * @param truncatedMass the probability mass left when the distribution was cut off
+   */
+  MarkovAnalysis(double[] expectedTurns, double[] turnProbabilities,
+                 double[] expectedVisits, double truncatedMass) {
+    this.expectedTurns = expectedTurns;
+    this.turnProbabilities = turnProbabilities;
+    this.expectedVisits = expectedVisits;
+    this.truncatedMass = truncatedMass;
+  }
+
+  /**
+   * Returns the expected number of turns to finish a game from the start.
+   *
+   * @return the expected number of turns
+   */
+  public double getExpectedTurns() {
+    return expectedTurns[0];
+  }
+
+  /**
+   * Returns the expected number of turns to finish a game from the given tile.
+   *
+   * @param tileNumber the tile the player stands on
+   * @return the expected number of turns, 0 on the last tile
+   */
+  public double getExpectedTurnsFrom(int tileNumber) {
+    return expectedTurns[tileNumber];
+  }
+
+  /**
+   * Returns the probability of finishing on exactly the given turn.
+   *
+   * @param turn the turn number, starting at 1
+   * @return the probability
+   */
+  public double getTurnProbability(int turn) {
+    return turn >= 0 && turn < turnProbabilities.length ? turnProbabilities[turn] : 0;
+  }
+
+  /**
+   * Returns the probability of finishing within the given number of turns.
+   *
+   * @param turns the number of turns
+   * @return the cumulative probability
+   */
+  public double getCumulativeProbability(int turns) {
+    double sum = 0;
+    for (int turn = 0; turn <= turns && turn < turnProbabilities.length; turn++) {
+      sum += turnProbabilities[turn];
+    }
+    return sum;
+  }
+
+  /**
+   * Returns the turn-count distribution.
+   * Index {@code n} holds the probability of finishing on exactly turn {@code n}.
+   *
+   * @return a new array of probabilities, ending where the remaining mass was negligible
+   */
+  public double[] getTurnDistribution() {
+    return turnProbabilities.clone();
+  }
+
+  /**
+   * Returns the expected number of turns that end on the given tile.
+   * Tiles that start a ladder are never visited, since the player moves on at once.
+   *
+   * @param tileNumber the tile number
+   * @return the expected number of visits
+   */
+  public double getExpectedVisits(int tileNumber) {
+    return tileNumber >= 0 && tileNumber < expectedVisits.length ? expectedVisits[tileNumber] : 0;
+  }
+
+  /**
+   * Returns the share of all turns in a game that end on the given tile.
+   *
+   * @param tileNumber the tile number
+   * @return the probability that a random turn ends on the tile
+   */
+  public double getVisitProbability(int tileNumber) {
+    return getExpectedVisits(tileNumber) / getExpectedTurns();
+  }
+
+  /**
+   * Returns the probability mass that had not finished when the distribution was cut off.
+   *
+   * @return the truncated mass, normally below 1e-12
+   */
+  public double getTruncatedMass() {
+    return truncatedMass;
+  }
+}
@@ -0,0 +1,204 @@
+package modell.simulation;
+
+import java.util.Arrays;
+import modell.dice.DiceSet;
+import modell.dice.SumDistribution;
+import modell.tiles.TileEngine;
+import modell.tiles.TileLogic;
+
+/**
+ * Computes exact statistics of a board by treating a game as an absorbing Markov chain.
+ * The states are the tiles a player can stand on between turns, from the start at 0
+ * to the last tile, which absorbs. Each turn moves the player by the sum of the dice,
+ * bounces back from the last tile and applies the effect of the square, exactly as in
+ * {@link modell.gameboard.GameboardLogic#handlePlayerLanding}; the transitions are read
+ * from the board's {@link TileEngine}.
+ *
+ * <p>The transition matrix is stored in compressed sparse rows with at most one entry per
+ * dice sum, so a board of 1000 tiles holds a few thousand entries. The expected number of
+ * turns is solved with Gauss-Seidel iteration, and the turn-count distribution and the
+ * expected visits per tile are found by pushing the start distribution through the chain
+ * until the mass left on the board is negligible.
+ *
+ * <p>Turns are counted as dice rolls of a single player; extra-throw and skip-next-turn
+ * squares do not move the player, so they do not change the chain.
+ *
+ * <p>Example usage:
+ * <pre>
+ * MarkovAnalysis analysis = new MarkovChainAnalyzer(board, new DiceSet(2)).analyze();
+ * double meanTurns = analysis.getExpectedTurns();
+ * double finishedIn20 = analysis.getCumulativeProbability(20);
+ * </pre>
+ *
+ * @author didrik
+ * @version 1.0
+ */
+public class MarkovChainAnalyzer {
+  /** Mass left on the board below which the distribution is considered complete */
+  private static final double TOLERANCE = 1e-12;
+  /** Upper limit on the number of turns and solver sweeps */
+  private static final int MAX_ITERATIONS = 1_000_000;
+  /** Number of faces on each die */
+  private static final int FACES = 6;
+
+  /** Number of tiles on the board, which is also the absorbing state */
+  private final int boardSize;
+  /** Start of each state's row in {@link #targets} and {@link #probabilities} */
+  private final int[] rowStart;
+  /** Target state of each transition */
+  private final int[] targets;
+  /** Probability of each transition */
+  private final double[] probabilities;
+
+  /**
+   * Builds the transition matrix of a board for the given dice.
+   *
+   * @param board the board to analyze
+   * @param dice the dice rolled each turn
+   * @throws IllegalArgumentException if the board is so small that a roll could bounce
+   *         back past the start
+   */
+  public MarkovChainAnalyzer(TileLogic board, DiceSet dice) {
+    this.boardSize = board.getBoardSize();
+    int numberOfDice = dice.getNumberOfDice();
+    int maxRoll = numberOfDice * FACES;
+    if (2 * boardSize < boardSize - 1 + maxRoll) {
+      throw new IllegalArgumentException("Board needs at least " + (maxRoll - 1)
+          + " tiles for " + numberOfDice + " dice");
+    }
+
+    SumDistribution sums = SumDistribution.of(numberOfDice, FACES);
+    TileEngine engine = board.getTileEngine();
+    this.rowStart = new int[boardSize + 1];
+    int[] rowTargets = new int[maxRoll];
+    double[] rowProbabilities = new double[maxRoll];
+    int[] allTargets = new int[boardSize * (maxRoll - numberOfDice + 1)];
+    double[] allProbabilities = new double[allTargets.length];
+    int entries = 0;
+
+    for (int state = 0; state < boardSize; state++) {
+      rowStart[state] = entries;
+      int rowLength = 0;
+      for (int roll = numberOfDice; roll <= maxRoll; roll++) {
+        int target = TileEngine.destination(engine.land(state + roll));
+        int entry = 0;
+        while (entry < rowLength && rowTargets[entry] != target) {
+          entry++;
+        }
+        if (entry == rowLength) {
+          rowTargets[rowLength] = target;
+          rowProbabilities[rowLength] = 0;
+          rowLength++;
+        }
+        rowProbabilities[entry] += sums.getProbability(roll);
+      }
+      System.arraycopy(rowTargets, 0, allTargets, entries, rowLength);
+      System.arraycopy(rowProbabilities, 0, allProbabilities, entries, rowLength);
+      entries += rowLength;
+    }
+    rowStart[boardSize] = entries;
+    this.targets = Arrays.copyOf(allTargets, entries);
+    this.probabilities = Arrays.copyOf(allProbabilities, entries);
+  }
+
+  /**
+   * Computes the expected turns, the turn-count distribution and the expected visits.
+   *
+   * @return the analysis of the board
+   * @throws IllegalStateException if the last tile cannot be reached from the start
+   */
+  public MarkovAnalysis analyze() {
+    double[] expectedTurns = solveExpectedTurns();
+
+    double[] current = new double[boardSize];
+    double[] next = new double[boardSize];
+    double[] visits = new double[boardSize + 1];
+    double[] turnProbabilities = new double[64];
+    current[0] = 1.0;
+    double remaining = 1.0;
+    int turn = 0;
+
+    while (remaining > TOLERANCE && turn < MAX_ITERATIONS) {
+      turn++;
+      double absorbed = 0;
+      for (int state = 0; state < boardSize; state++) {
+        double mass = current[state];
+        if (mass == 0) {
+          continue;
+        }
+        for (int entry = rowStart[state]; entry < rowStart[state + 1]; entry++) {
+          double flow = mass * probabilities[entry];
+          int target = targets[entry];
+          if (target == boardSize) {
+            absorbed += flow;
+          } else {
+            next[target] += flow;
+          }
+        }
+      }
+      for (int state = 0; state < boardSize; state++) {
+        visits[state] += next[state];
+      }
+      if (turn >= turnProbabilities.length) {
+        turnProbabilities = Arrays.copyOf(turnProbabilities, turnProbabilities.length * 2);
+      }
+      turnProbabilities[turn] = absorbed;
+      remaining -= absorbed;
+
+      double[] swap = current;
+      current = next;
+      next = swap;
+      Arrays.fill(next, 0);
+    }
+    visits[boardSize] = 1.0 - remaining;
+
+    return new MarkovAnalysis(expectedTurns, Arrays.copyOf(turnProbabilities, turn + 1),
+        visits, Math.max(remaining, 0));
+  }
+
+  /**
+   * Solves the expected number of turns to reach the last tile from every state with
+   * Gauss-Seidel iteration. States are swept from the last tile downwards, so that the
+   * mostly forward moves reuse values from the same sweep.
+   *
+   * @return the expected turns indexed by state, 0 for the last tile
+   * @throws IllegalStateException if the iteration does not converge
+   */
+  private double[] solveExpectedTurns() {
+    double[] expected = new double[boardSize + 1];
+    for (int sweep = 0; sweep < MAX_ITERATIONS; sweep++) {
+      double largestChange = 0;
+      for (int state = boardSize - 1; state >= 0; state--) {
+        double sum = 1.0;
+        double stay = 0;
+        for (int entry = rowStart[state]; entry < rowStart[state + 1]; entry++) {
+          if (targets[entry] == state) {
+            stay += probabilities[entry];
+          } else {
+            sum += probabilities[entry] * expected[targets[entry]];
+          }
+        }
+        if (stay >= 1.0) {
+          throw new IllegalStateException("Tile " + state + " can never be left");
+        }
+        double value = sum / (1.0 - stay);
+        largestChange = Math.max(largestChange, Math.abs(value - expected[state]) / value);
+        expected[state] = value;
+      }
+      if (largestChange < TOLERANCE) {
+        return expected;
+      }
+    }
+    throw new IllegalStateException("Expected turns did not converge; "
+        + "the last tile may be unreachable");
+  }
+
+  /**
+   * Returns the number of non-zero transitions in the chain.
+   *
+   * @return the number of stored matrix entries
+   */
+  public int getTransitionCount() {
+    return targets.length;
+  }
+}
@@ -0,0 +1,170 @@
+package modell.simulation;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import modell.dice.DiceSet;
+import modell.dice.RandomSource;
+import modell.tiles.TileLogic;
+
+/**
+ * Plays large numbers of complete games on one board to measure its statistics.
+ * Games are split into batches and spread over all cores with fork-join. Every batch
+ * plays its games in lockstep, many at a time in flat primitive arrays, following the
+ * rules of {@link modell.gameboard.GameEngine}. It has its own sum-sampling
+ * {@link DiceSet}, which draws each roll with a single random number, and its own
+ * counters, so the threads share nothing but the read-only board; the counters are
+ * merged when the batches join.
+ *
+ * <p>Every batch rolls from its own stream, split off the simulator's {@link RandomSource}
+ * in a fixed order. A simulator created with a seeded source therefore produces the same
+ * statistics on every run, however the batches are scheduled.
+ *
+ * <p>The board is only read, so it should not be changed while a simulation runs.
+ * A {@link modell.tiles.LadderTileLogic#freeze() frozen} board is always safe.
+ *
+ * <p>Example usage:
+ * <pre>
+ * MonteCarloSimulator simulator = new MonteCarloSimulator(board, 2, 2);
+ * SimulationResult result = simulator.run(1_000_000);
+ * double meanTurns = result.getMeanTurns();
+ * double firstSeatWins = result.getWinRate(0);
+ * </pre>
+ *
+ * @author didrik
+ * @version 1.0
+ */
+public class MonteCarloSimulator {
+  /** Default number of dice rolls after which a game is abandoned */
+  public static final int DEFAULT_MAX_TURNS = 10_000;
+  /** Number of games a batch plays without splitting further */
+  private static final long GAMES_PER_BATCH = 4_096;
+
+  /** The board the games are played on */
+  private final TileLogic board;
+  /** Number of players per game */
+  private final int playerCount;
+  /** Number of dice rolled per turn */
+  private final int numberOfDice;
+  /** Number of dice rolls after which a game is abandoned */
+  private final int maxTurns;
+  /** Pool the batches run in */
+  private final ForkJoinPool pool;
+  /** Source the batches' random streams are split from */
+  private final RandomSource random;
+
+  /**
+   * Creates a simulator that runs in the common fork-join pool.
+   *
+   * @param board the board to simulate
+   * @param playerCount the number of players per game
+   * @param numberOfDice the number of dice rolled per turn
+   * @throws IllegalArgumentException if the board is null, a count is not positive
+   *         or the number of dice is not supported by {@link DiceSet}
+   */
+  public MonteCarloSimulator(TileLogic board, int playerCount, int numberOfDice) {
+    this(board, playerCount, numberOfDice, DEFAULT_MAX_TURNS, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a simulator.
+   *
+   * @param board the board to simulate
+   * @param playerCount the number of players per game
+   * @param numberOfDice the number of dice rolled per turn
+   * @param maxTurns the number of dice rolls after which a game is abandoned
+   * @param pool the fork-join pool to run the games in
+   * @throws IllegalArgumentException if an argument is null, a count is not positive
+   *         or the number of dice is not supported by {@link DiceSet}
+   */
+  public MonteCarloSimulator(TileLogic board, int playerCount, int numberOfDice,
+                             int maxTurns, ForkJoinPool pool) {
+    this(board, playerCount, numberOfDice, maxTurns, pool, RandomSource.create());
+  }
+
+  /**
+   * Creates a simulator whose random streams are split from the given source.
+   *
+   * @param board the board to simulate
+   * @param playerCount the number of players per game
+   * @param numberOfDice the number of dice rolled per turn
+   * @param maxTurns the number of dice rolls after which a game is abandoned
+   * @param pool the fork-join pool to run the games in
+   * @param random the source to split the batches' streams from, for example a seeded one
+   * @throws IllegalArgumentException if an argument is null, a count is not positive
+   *         or the number of dice is not supported by {@link DiceSet}
+   */
+  public MonteCarloSimulator(TileLogic board, int playerCount, int numberOfDice,
+                             int maxTurns, ForkJoinPool pool, RandomSource random) {
+    if (board == null || pool == null || random == null) {
+      throw new IllegalArgumentException("Board, pool and random source cannot be null");
+    }
+    if (playerCount <= 0 || maxTurns <= 0) {
+      throw new IllegalArgumentException("Player count and turn limit must be positive");
+    }
+    new DiceSet(numberOfDice); // Rejects an unsupported number of dice up front
+    this.board = board;
+    this.playerCount = playerCount;
+    this.numberOfDice = numberOfDice;
+    this.maxTurns = maxTurns;
+    this.pool = pool;
+    this.random = random;
+    // Compile the board once, before the batches start reading it concurrently
+    board.getTileEngine();
+  }
+
+  /**
+   * Plays the given number of games and collects their statistics.
+   *
+   * @param games the number of games to play
+   * @return the merged statistics of all games
+   * @throws IllegalArgumentException if the number of games is negative
+   */
+  public SimulationResult run(long games) {
+    if (games < 0) {
+      throw new IllegalArgumentException("Number of games cannot be negative");
+    }
+    long start = System.nanoTime();
+    SimulationStats stats = pool.invoke(new SimulationTask(games, random.split()));
+    return new SimulationResult(stats, System.nanoTime() - start);
+  }
+
+  /**
+   * Plays a batch of games on the calling thread.
+   *
+   * @param games the number of games to play
+   * @param stream the random stream the batch rolls from
+   * @return the counters of the batch
+   */
+  private SimulationStats playBatch(long games, RandomSource stream) {
+    DiceSet dice = new DiceSet(numberOfDice, stream, true);
+    return new LockstepBatch(board.getTileEngine(), playerCount, maxTurns, dice).play(games);
+  }
+
+  /**
+   * Fork-join task that splits a number of games in halves until a batch is small enough
+   * to play directly.
+   */
+  private class SimulationTask extends RecursiveTask<SimulationStats> {
+    /** Number of games this task plays */
+    private final long games;
+    /** Random stream of this task, split further when the task splits */
+    private final RandomSource stream;
+
+    SimulationTask(long games, RandomSource stream) {
+      this.games = games;
+      this.stream = stream;
+    }
+
+    @Override
+    protected SimulationStats compute() {
+      if (games <= GAMES_PER_BATCH) {
+        return playBatch(games, stream);
+      }
+      SimulationTask left = new SimulationTask(games / 2, stream.split());
+      SimulationTask right = new SimulationTask(games - games / 2, stream);
+      left.fork();
+      SimulationStats stats = right.compute();
+      return stats.merge(left.join());
+    }
+  }
+}
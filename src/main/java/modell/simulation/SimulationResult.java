@@ -0,0 +1,168 @@
+package modell.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Immutable statistics of a batch of simulated games.
+ * Game lengths are counted in dice rolls over all players, so an extra throw adds
+ * a roll to the game.
+ *
+ * @author didrik
+ * @version 1.0
+ */
+public final class SimulationResult {
+  /** Number of games played */
+  private final long games;
+  /** Number of games that hit the turn limit without a winner */
+  private final long unfinishedGames;
+  /** Sum of the game lengths of all finished games */
+  private final long totalTurns;
+  /** Number of games won by each seat */
+  private final long[] winsBySeat;
+  /** Number of finished games by game length, trimmed after the longest game */
+  private final long[] lengthCounts;
+  /** Wall-clock time the simulation took */
+  private final long elapsedNanos;
+
+  /**
+   * Creates a result from merged simulation counters.
+   *
+   * @param stats the merged counters
+   * @param elapsedNanos the wall-clock time the simulation took
+   */
+  SimulationResult(SimulationStats stats, long elapsedNanos) {
+    this.games = stats.games;
+    this.unfinishedGames = stats.unfinishedGames;
+    this.totalTurns = stats.totalTurns;
+    this.winsBySeat = stats.winsBySeat.clone();
+    int longest = stats.lengthCounts.length - 1;
+    while (longest > 0 && stats.lengthCounts[longest] == 0) {
+      longest--;
+    }
+    this.lengthCounts = Arrays.copyOf(stats.lengthCounts, longest + 1);
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * Returns the number of games played.
+   *
+   * @return the number of games
+   */
+  public long getGames() {
+    return games;
+  }
+
+  /**
+   * Returns the number of games that hit the turn limit without a winner.
+   *
+   * @return the number of unfinished games
+   */
+  public long getUnfinishedGames() {
+    return unfinishedGames;
+  }
+
+  /**
+   * Returns the share of all games won by the given seat.
+   *
+   * @param seat the seat index, starting at 0
+   * @return the win rate between 0 and 1
+   */
+  public double getWinRate(int seat) {
+    return games == 0 ? 0 : (double) winsBySeat[seat] / games;
+  }
+
+  /**
+   * Returns the number of seats in the simulated games.
+   *
+   * @return the number of players per game
+   */
+  public int getPlayerCount() {
+    return winsBySeat.length;
+  }
+
+  /**
+   * Returns the mean length of the finished games.
+   *
+   * @return the mean number of dice rolls per game
+   */
+  public double getMeanTurns() {
+    long finished = games - unfinishedGames;
+    return finished == 0 ? 0 : (double) totalTurns / finished;
+  }
+
+  /**
+   * Returns the number of finished games that lasted exactly the given number of rolls.
+   *
+   * @param turns the game length in dice rolls
+   * @return the number of games with that length
+   */
+  public long getLengthCount(int turns) {
+    return turns >= 0 && turns < lengthCounts.length ? lengthCounts[turns] : 0;
+  }
+
+  /**
+   * Returns the distribution of game lengths.
+   * Index {@code n} holds the share of finished games that lasted {@code n} dice rolls.
+   *
+   * @return a new array of probabilities, ending at the longest game
+   */
+  public double[] getLengthDistribution() {
+    long finished = games - unfinishedGames;
+    double[] distribution = new double[lengthCounts.length];
+    for (int turns = 0; turns < lengthCounts.length && finished > 0; turns++) {
+      distribution[turns] = (double) lengthCounts[turns] / finished;
+    }
+    return distribution;
+  }
+
+  /**
+   * Returns the shortest game length that at least the given share of finished games
+   * did not exceed.
+   *
+   * @param quantile the share of games, between 0 and 1
+   * @return the game length in dice rolls
+   */
+  public int getLengthPercentile(double quantile) {
+    long finished = games - unfinishedGames;
+    long threshold = (long) Math.ceil(quantile * finished);
+    long seen = 0;
+    for (int turns = 0; turns < lengthCounts.length; turns++) {
+      seen += lengthCounts[turns];
+      if (seen >= threshold && seen > 0) {
+        return turns;
+      }
+    }
+    return lengthCounts.length - 1;
+  }
+
+  /**
+   * Returns the wall-clock time the simulation took.
+   *
+   * @return the elapsed time in nanoseconds
+   */
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * Returns the simulation throughput.
+   *
+   * @return the number of games played per second of wall-clock time
+   */
+  public double getGamesPerSecond() {
+    return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder report = new StringBuilder();
+    report.append(String.format("%d games (%d unfinished) in %.1f ms, %.0f games/s%n",
+        games, unfinishedGames, elapsedNanos / 1e6, getGamesPerSecond()));
+    report.append(String.format("mean %.2f rolls, median %d, p99 %d%n",
+        getMeanTurns(), getLengthPercentile(0.5), getLengthPercentile(0.99)));
+    for (int seat = 0; seat < winsBySeat.length; seat++) {
+      report.append(String.format("seat %d wins %.2f%%%n", seat + 1, getWinRate(seat) * 100));
+    }
+    return report.toString();
+  }
+}
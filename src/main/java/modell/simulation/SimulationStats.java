@@ -0,0 +1,75 @@
+package modell.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Mutable counters for a batch of simulated games.
+ * Every simulation task fills its own instance without synchronization, and the
+ * instances are merged once the tasks have finished.
+ *
+ * @author didrik
+ * @version 1.0
+ */
+final class SimulationStats {
+  /** Number of games played */
+  long games;
+  /** Number of games that hit the turn limit without a winner */
+  long unfinishedGames;
+  /** Sum of the game lengths of all finished games, in dice rolls */
+  long totalTurns;
+  /** Number of games won by each seat */
+  final long[] winsBySeat;
+  /** Number of finished games by game length in dice rolls */
+  long[] lengthCounts = new long[256];
+
+  /**
+   * Creates empty counters for games with the given number of players.
+   *
+   * @param playerCount the number of players per game
+   */
+  SimulationStats(int playerCount) {
+    this.winsBySeat = new long[playerCount];
+  }
+
+  /**
+   * Records the result of one game.
+   *
+   * @param winnerSeat the seat of the winner, or -1 if nobody won
+   * @param turns the number of dice rolls played
+   */
+  void record(int winnerSeat, int turns) {
+    games++;
+    if (winnerSeat < 0) {
+      unfinishedGames++;
+      return;
+    }
+    winsBySeat[winnerSeat]++;
+    totalTurns += turns;
+    if (turns >= lengthCounts.length) {
+      lengthCounts = Arrays.copyOf(lengthCounts, Math.max(turns + 1, lengthCounts.length * 2));
+    }
+    lengthCounts[turns]++;
+  }
+
+  /**
+   * Adds the counters of another batch to this one.
+   *
+   * @param other the counters to add
+   * @return this instance
+   */
+  SimulationStats merge(SimulationStats other) {
+    games += other.games;
+    unfinishedGames += other.unfinishedGames;
+    totalTurns += other.totalTurns;
+    for (int seat = 0; seat < winsBySeat.length; seat++) {
+      winsBySeat[seat] += other.winsBySeat[seat];
+    }
+    if (other.lengthCounts.length > lengthCounts.length) {
+      lengthCounts = Arrays.copyOf(lengthCounts, other.lengthCounts.length);
+    }
+    for (int turns = 0; turns < other.lengthCounts.length; turns++) {
+      lengthCounts[turns] += other.lengthCounts[turns];
+    }
+    return this;
+  }
+}
@@ -0,0 +1,136 @@
+package modell.tiles;
+
+import java.util.Map;
+
+/**
+ * Manages a game board that mixes ladders, extra-throw tiles and skip-next-turn tiles.
+ * Ladders follow the same rules as in {@link LadderTileLogic}, and every square holds
+ * at most one special effect.
+ *
+ * <p>All effects on the board are resolved together by its {@link TileEngine}, so a
+ * landing is answered with one read no matter which kind of tile the player lands on.
+ *
+ * <p>Example usage:
+ * <pre>
+ * CompositeTileLogic logic = new CompositeTileLogic();
+ * logic.fillPlainTiles(100);            // Add plain tiles 1-100
+ * logic.addLadder(5, 10);               // Ladder from tile 5 up to tile 15
+ * logic.addExtraThrowTile(8);           // Extra throw on tile 8
+ * logic.addSkipNextTurnTile(20);        // Skip next turn on tile 20
+ * TileEffect effect = TileEngine.effect(logic.getTileEngine().land(8));
+ * </pre>
+ *
+ * @author didrik
+ * @version 1.0
+ */
+public class CompositeTileLogic extends LadderTileLogic {
+
+  /**
+   * Constructs a new empty board.
+   */
+  public CompositeTileLogic() {
+    super();
+  }
+
+  /**
+   * Constructs a frozen copy of a board.
+   *
+   * @param source the board to copy
+   */
+  private CompositeTileLogic(CompositeTileLogic source) {
+    super(source);
+  }
+
+  /**
+   * Returns an immutable copy of this board that can be shared by many games and threads.
+   *
+   * @return a frozen copy of this board, or this board if it is already frozen
+   * @see LadderTileLogic#freeze()
+   */
+  @Override
+  public CompositeTileLogic freeze() {
+    return isFrozen() ? this : new CompositeTileLogic(this);
+  }
+
+  /**
+   * Adds a ladder to the specified tile.
+   *
+   * @param fromTile the tile number to add the ladder to
+   * @param ladderValue the number of spaces to move (positive for up, negative for down)
+   * @throws IllegalStateException if the tile already has a special effect
+   *         or the board is frozen
+   * @throws IllegalArgumentException if the ladder breaks one of the ladder rules
+   * @see LadderTileLogic#addLadder(int, int)
+   */
+  @Override
+  public void addLadder(int fromTile, int ladderValue) {
+    checkNoSpecialTile(fromTile);
+    super.addLadder(fromTile, ladderValue);
+  }
+
+  /**
+   * Adds an ExtraThrowTile at the specified tile number.
+   *
+   * @param fromTile the tile number to grant an extra throw
+   * @throws IllegalStateException if the tile already has a special effect
+   *         or the board is frozen
+   */
+  public void addExtraThrowTile(int fromTile) {
+    checkNotFrozen();
+    if (getTileByNumber(fromTile) == null) {
+      return;
+    }
+    checkNoSpecialTile(fromTile);
+    addTile(new ExtraThrowTile(fromTile));
+  }
+
+  /**
+   * Adds a SkipNextTurnTile at the specified tile number.
+   *
+   * @param fromTile the tile number to cause a skip of next turn
+   * @throws IllegalStateException if the tile already has a special effect
+   *         or the board is frozen
+   */
+  public void addSkipNextTurnTile(int fromTile) {
+    checkNotFrozen();
+    if (getTileByNumber(fromTile) == null) {
+      return;
+    }
+    checkNoSpecialTile(fromTile);
+    addTile(new SkipNextTurnTile(fromTile));
+  }
+
+  /**
+   * Returns a map of all extra-throw tiles on the board.
+   * The map keys are tile numbers, and the values are their effect values (always 0).
+   *
+   * @return a map of tile numbers to effect values, ordered by tile number
+   */
+  public Map<Integer, Integer> getExtraThrowMap() {
+    return getEffectMap(TileEffect.EXTRA_THROW);
+  }
+
+  /**
+   * Returns a map of all skip-next-turn tiles on the board.
+   * The map keys are tile numbers, and the values are their effect values (always 0).
+   *
+   * @return a map of tile numbers to effect values, ordered by tile number
+   */
+  public Map<Integer, Integer> getSkipNextTurnMap() {
+    return getEffectMap(TileEffect.SKIP_NEXT_TURN);
+  }
+
+  /**
+   * Ensures that the given square does not hold any special tile yet.
+   *
+   * @param tileNumber the tile number to check
+   * @throws IllegalStateException if the square already has a special effect
+   */
+  private void checkNoSpecialTile(int tileNumber) {
+    Tile tile = getTileByNumber(tileNumber);
+    if (tile instanceof ExtraThrowTile || tile instanceof SkipNextTurnTile
+        || tile != null && tile.getEffect() != 0) {
+      throw new IllegalStateException("Tile " + tileNumber + " already has a special effect");
+    }
+  }
+}
@@ -1,7 +1,6 @@
 package modell.tiles;
 
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Manages the ExtraThrowTile instances on the game board.
@@ -35,22 +34,17 @@ public class ExtraThrowTileLogic extends TileLogic {
     if (tile.getEffect() != 0) {
       throw new IllegalStateException("Tile " + fromTile + " already has a special effect");
     }
-    tiles.set(tiles.indexOf(tile), new ExtraThrowTile(fromTile));
+    addTile(new ExtraThrowTile(fromTile));
   }
 
   /**
    * Returns a map of all extra-throw tiles on the board.
    * The map keys are tile numbers, and the values are their effect values (always 0).
    *
-   * @return a map of tile numbers to effect values for ExtraThrowTile
+   * @return a map of tile numbers to effect values for ExtraThrowTile, ordered by tile number
    */
   public Map<Integer, Integer> getExtraThrowMap() {
-    return tiles.stream()
-        .filter(t -> t instanceof ExtraThrowTile)
-        .collect(Collectors.toMap(
-            Tile::getTileNumber,
-            Tile::getEffect
-        ));
+    return getEffectMap(TileEffect.EXTRA_THROW);
   }
 }
 
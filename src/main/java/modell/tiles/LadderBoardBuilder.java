@@ -0,0 +1,195 @@
+package modell.tiles;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Builds a complete {@link LadderTileLogic} from a board size and a batch of ladders.
+ * Ladders are only recorded when they are added; bounds, duplicates, the maximum
+ * effect and circular paths are all checked in one linear pass in {@link #build()},
+ * after which the finished board is published in one step.
+ *
+ * <p>The builder applies the same rules as {@link LadderTileLogic#addLadder(int, int)},
+ * but rejects a ladder on a tile outside the board instead of ignoring it.
+ *
+ * <p>Example usage:
+ * <pre>
+ * LadderTileLogic logic = new LadderBoardBuilder(100)
+ *     .addLadder(2, 32)              // Ladder from tile 2 up to tile 34
+ *     .addLadder(98, -60)            // Snake from tile 98 down to tile 38
+ *     .addLadders(config.getTileConfigs())
+ *     .build();
+ * </pre>
+ *
+ * @author didrik
+ * @version 1.0
+ */
+public class LadderBoardBuilder {
+  /** Number of tiles on the board being built */
+  private final int boardSize;
+  /** Start tiles of the recorded ladders, in the order they were added */
+  private int[] ladderStarts = new int[16];
+  /** Effects of the recorded ladders, parallel to {@link #ladderStarts} */
+  private int[] ladderValues = new int[16];
+  /** Number of recorded ladders */
+  private int ladderCount;
+
+  /**
+   * Creates a builder for a board with the given number of tiles.
+   *
+   * @param boardSize the number of tiles on the board (between 1 and 1000)
+   * @throws IllegalArgumentException if the board size is not positive or too large
+   */
+  public LadderBoardBuilder(int boardSize) {
+    if (boardSize <= 0) {
+      throw new IllegalArgumentException("Board size must be positive, got: " + boardSize);
+    }
+    if (boardSize > Tile.MAX_TILE_NUMBER) {
+      throw new IllegalArgumentException("Board size exceeds maximum allowed value of "
+          + Tile.MAX_TILE_NUMBER);
+    }
+    this.boardSize = boardSize;
+  }
+
+  /**
+   * Records a ladder to be placed on the board.
+   * The ladder is validated together with all other ladders when the board is built.
+   *
+   * @param fromTile the tile number to add the ladder to
+   * @param ladderValue the number of spaces to move (positive for up, negative for down)
+   * @return this builder
+   */
+  public LadderBoardBuilder addLadder(int fromTile, int ladderValue) {
+    if (ladderCount == ladderStarts.length) {
+      ladderStarts = Arrays.copyOf(ladderStarts, ladderCount * 2);
+      ladderValues = Arrays.copyOf(ladderValues, ladderCount * 2);
+    }
+    ladderStarts[ladderCount] = fromTile;
+    ladderValues[ladderCount] = ladderValue;
+    ladderCount++;
+    return this;
+  }
+
+  /**
+   * Records a batch of ladders, such as the tile configurations of a loaded board.
+   *
+   * @param ladders a map of tile numbers to ladder effects
+   * @return this builder
+   */
+  public LadderBoardBuilder addLadders(Map<Integer, Integer> ladders) {
+    for (Map.Entry<Integer, Integer> entry : ladders.entrySet()) {
+      addLadder(entry.getKey(), entry.getValue());
+    }
+    return this;
+  }
+
+  /**
+   * Records a batch of ladders given as two parallel arrays.
+   *
+   * @param fromTiles the tile numbers to add the ladders to
+   * @param ladderValues the ladder effects, at the same index as their tile number
+   * @param count the number of ladders, counted from the start of the arrays
+   * @return this builder
+   */
+  public LadderBoardBuilder addLadders(int[] fromTiles, int[] ladderValues, int count) {
+    int needed = ladderCount + count;
+    if (needed > ladderStarts.length) {
+      int capacity = Math.max(needed, ladderStarts.length * 2);
+      ladderStarts = Arrays.copyOf(ladderStarts, capacity);
+      this.ladderValues = Arrays.copyOf(this.ladderValues, capacity);
+    }
+    System.arraycopy(fromTiles, 0, ladderStarts, ladderCount, count);
+    System.arraycopy(ladderValues, 0, this.ladderValues, ladderCount, count);
+    ladderCount = needed;
+    return this;
+  }
+
+  /**
+   * Validates all recorded ladders and publishes the finished board.
+   *
+   * @return a new board with a tile for every number from 1 to the board size, where only
+   *         the ladders are stored as tile objects
+   * @throws IllegalStateException if two ladders start on the same tile
+   * @throws IllegalArgumentException if a ladder starts outside the board, would move
+   *         players beyond the board boundaries, exceeds the maximum effect value,
+   *         or if the ladders form a circular path
+   */
+  public LadderTileLogic build() {
+    int[] effects = new int[boardSize + 1];
+    for (int i = 0; i < ladderCount; i++) {
+      placeLadder(effects, ladderStarts[i], ladderValues[i]);
+    }
+    checkForCircularPaths(effects);
+
+    int highestLadder = 0;
+    for (int i = 0; i < ladderCount; i++) {
+      highestLadder = Math.max(highestLadder, ladderStarts[i]);
+    }
+    Tile[] ladders = new Tile[highestLadder + 1];
+    for (int tileNumber = 1; tileNumber <= highestLadder; tileNumber++) {
+      if (effects[tileNumber] != 0) {
+        ladders[tileNumber] = new LadderTile(tileNumber, effects[tileNumber]);
+      }
+    }
+    return new LadderTileLogic(ladders, boardSize);
+  }
+
+  /**
+   * Validates a single ladder against the board and the ladders placed so far,
+   * and records its effect.
+   *
+   * @param effects the ladder effects placed so far, indexed by tile number
+   * @param fromTile the tile number the ladder starts on
+   * @param ladderValue the ladder effect
+   */
+  private void placeLadder(int[] effects, int fromTile, int ladderValue) {
+    if (fromTile <= 0 || fromTile > boardSize) {
+      throw new IllegalArgumentException("Ladder start tile " + fromTile
+          + " is not on the board");
+    }
+    if (effects[fromTile] != 0) {
+      throw new IllegalStateException("Tile " + fromTile + " already has a ladder");
+    }
+    int targetTile = fromTile + ladderValue;
+    if (targetTile <= 0 || targetTile > boardSize) {
+      throw new IllegalArgumentException(
+          "Ladder effect would make player go beyond board boundaries");
+    }
+    if (Math.abs(ladderValue) > LadderTileLogic.MAX_EFFECT) {
+      throw new IllegalArgumentException("Ladder effect value " + ladderValue
+          + " exceeds maximum allowed value of " + LadderTileLogic.MAX_EFFECT);
+    }
+    effects[fromTile] = ladderValue;
+  }
+
+  /**
+   * Checks that no sequence of ladders leads back to a tile it has already visited.
+   * Every tile is walked at most twice, so the check is linear in the board size.
+   *
+   * @param effects the ladder effects, indexed by tile number
+   * @throws IllegalArgumentException if the ladders form a circular path
+   */
+  private static void checkForCircularPaths(int[] effects) {
+    final byte unvisited = 0;
+    final byte onPath = 1;
+    final byte done = 2;
+    byte[] state = new byte[effects.length];
+
+    for (int start = 1; start < effects.length; start++) {
+      int tile = start;
+      while (state[tile] == unvisited && effects[tile] != 0) {
+        state[tile] = onPath;
+        tile += effects[tile];
+      }
+      if (state[tile] == onPath) {
+        throw new IllegalArgumentException("Adding ladder would create a circular path");
+      }
+      tile = start;
+      while (state[tile] == onPath) {
+        state[tile] = done;
+        tile += effects[tile];
+      }
+      state[tile] = done;
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package modell.tiles;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable view of the ladders on a board at a given version.
+ * A snapshot holds the ladder map together with tile-indexed lookup tables, so the
+ * ladder starting at a tile and the ladder ending at a tile can both be found in
+ * constant time.
+ *
+ * <p>Snapshots are created and cached by {@link LadderTileLogic#getLadderSnapshot()}
+ * and stay valid until the board's ladders change, which bumps the board's version.
+ *
+ * <p>Example usage:
+ * <pre>
+ * LadderSnapshot ladders = logic.getLadderSnapshot();
+ * int effect = ladders.getLadderEffect(5);       // Ladder starting on tile 5
+ * int start = ladders.getLadderStartEndingAt(15); // Ladder ending on tile 15
+ * </pre>
+ *
+ * @author didrik
+ * @version 1.0
+ */
+public final class LadderSnapshot {
+  /** Board version this snapshot was taken at */
+  private final int version;
+  /** Unmodifiable map of ladder start tiles to ladder effects, ordered by tile number */
+  private final Map<Integer, Integer> ladderMap;
+  /** Ladder effect indexed by start tile, 0 where there is no ladder */
+  private final int[] effectByStart;
+  /** Start tile of a ladder indexed by its end tile, 0 where no ladder ends */
+  private final int[] startByEnd;
+
+  /**
+   * Creates a snapshot of the ladders among the given tiles.
+   * If several ladders end on the same tile, the one with the lowest start tile is indexed.
+   *
+   * @param version the board version the snapshot is taken at
+   * @param tiles the special tiles of the board, indexed by tile number
+   * @param tileNumberBound one more than the highest tile number on the board
+   */
+  LadderSnapshot(int version, Tile[] tiles, int tileNumberBound) {
+    this.version = version;
+    this.effectByStart = new int[tileNumberBound];
+    this.startByEnd = new int[tileNumberBound];
+    Map<Integer, Integer> ladders = new LinkedHashMap<>();
+    for (Tile tile : tiles) {
+      if (tile == null || tile.getEffect() == 0) {
+        continue;
+      }
+      int start = tile.getTileNumber();
+      int end = start + tile.getEffect();
+      ladders.put(start, tile.getEffect());
+      effectByStart[start] = tile.getEffect();
+      if (end >= 0 && end < startByEnd.length && startByEnd[end] == 0) {
+        startByEnd[end] = start;
+      }
+    }
+    this.ladderMap = Collections.unmodifiableMap(ladders);
+  }
+
+  /**
+   * Returns the board version this snapshot was taken at.
+   *
+   * @return the board version
+   */
+  public int getVersion() {
+    return version;
+  }
+
+  /**
+   * Returns an unmodifiable map of ladder start tiles to ladder effects.
+   *
+   * @return the ladder map, ordered by tile number
+   */
+  public Map<Integer, Integer> getLadderMap() {
+    return ladderMap;
+  }
+
+  /**
+   * Returns the effect of the ladder starting on the given tile.
+   *
+   * @param tileNumber the tile number
+   * @return the ladder effect, or 0 if no ladder starts on the tile
+   */
+  public int getLadderEffect(int tileNumber) {
+    if (tileNumber < 0 || tileNumber >= effectByStart.length) {
+      return 0;
+    }
+    return effectByStart[tileNumber];
+  }
+
+  /**
+   * Returns the start tile of a ladder ending on the given tile.
+   *
+   * @param tileNumber the tile number
+   * @return the start tile of the ladder, or 0 if no ladder ends on the tile
+   */
+  public int getLadderStartEndingAt(int tileNumber) {
+    if (tileNumber < 0 || tileNumber >= startByEnd.length) {
+      return 0;
+    }
+    return startByEnd[tileNumber];
+  }
+}
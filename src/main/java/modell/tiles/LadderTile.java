@@ -17,6 +17,18 @@ package modell.tiles;
  * @version 1.0
  */
 public class LadderTile extends Tile {
+    /**
+     * Shared plain tiles, indexed by tile number. The array is filled once when the class
+     * is initialized and never written afterwards, so every thread sees the same tiles.
+     */
+    private static final LadderTile[] PLAIN_TILES = new LadderTile[Tile.MAX_TILE_NUMBER + 1];
+
+    static {
+        for (int tileNumber = 0; tileNumber < PLAIN_TILES.length; tileNumber++) {
+            PLAIN_TILES[tileNumber] = new LadderTile(tileNumber, 0);
+        }
+    }
+
     /** The value of the ladder effect (positive for up, negative for down) */
     private final int ladderValue;
 
@@ -32,6 +44,18 @@ public class LadderTile extends Tile {
         this.ladderValue = ladderValue;
     }   
 
+    /**
+     * Returns the shared plain tile with the given number.
+     * Plain tiles have no effect and are immutable, so one instance per tile number
+     * is shared by every board.
+     *
+     * @param tileNumber the number of the tile on the board
+     * @return a ladder tile with a ladder value of 0
+     */
+    public static LadderTile plain(int tileNumber) {
+        return PLAIN_TILES[tileNumber];
+    }
+
     /**
      * Returns the ladder effect value.
      * A positive value means the player moves up the board,
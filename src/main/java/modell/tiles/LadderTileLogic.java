@@ -1,7 +1,6 @@
 package modell.tiles;
 
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Manages the game board and ladder tiles in a board game.
@@ -13,20 +12,83 @@ import java.util.stream.Collectors;
  * <p>The maximum ladder effect is limited to {@value #MAX_EFFECT} spaces.
  * Ladders cannot create circular paths or move players beyond the board boundaries.
  *
+ * <p>Landings are resolved through the board's {@link TileEngine}, which maps every raw
+ * position a player can reach, including overshoot past the last tile, to the tile the
+ * player ends up on after bouncing back and taking a ladder.
+ *
  * <p>Example usage:
  * <pre>
  * LadderTileLogic logic = new LadderTileLogic();
- * logic.addTile(new LadderTile(1, 0));  // Add a normal tile
+ * logic.fillPlainTiles(100);            // Add plain tiles 1-100
  * logic.addLadder(5, 10);               // Add a ladder that moves up 10 spaces
  * Map<Integer, Integer> ladders = logic.getLadderMap();  // Get all ladders
  * </pre>
  *
+ * <p>Complete boards are built faster with {@link LadderBoardBuilder}, which validates
+ * all ladders in a single pass.
+ *
  * @author didrik
  * @version 1.0
  */
 public class LadderTileLogic extends TileLogic {
     /** Maximum allowed ladder effect value */
-    private static final int MAX_EFFECT = 100;
+    static final int MAX_EFFECT = 100;
+
+    /**
+     * Union-find links from each tile towards the last tile of its ladder chain,
+     * or null if the board has changed outside {@link #addLadder(int, int)}.
+     */
+    private int[] chainLinks;
+
+    /** Cached ladder view, valid while its version matches the board version */
+    private LadderSnapshot ladderSnapshot;
+
+    /**
+     * Constructs a new empty ladder board.
+     * Tiles and ladders are added one at a time with {@link #addTile(Tile)}
+     * and {@link #addLadder(int, int)}.
+     */
+    public LadderTileLogic() {
+        super();
+    }
+
+    /**
+     * Constructs a ladder board from a finished tile table.
+     * Used by {@link LadderBoardBuilder} once all ladders have been validated.
+     *
+     * @param ladders the ladder tiles, indexed by tile number
+     * @param boardSize the number of squares on the board
+     */
+    LadderTileLogic(Tile[] ladders, int boardSize) {
+        super(ladders, boardSize);
+    }
+
+    /**
+     * Constructs a frozen copy of a ladder board.
+     * The tile engine and ladder snapshot are built up front, so no method of the
+     * copy ever writes to it.
+     *
+     * @param source the board to copy
+     */
+    protected LadderTileLogic(LadderTileLogic source) {
+        super(source);
+        this.ladderSnapshot = new LadderSnapshot(getVersion(), tiles, getTileNumberBound());
+    }
+
+    /**
+     * Returns an immutable copy of this board that can be shared by many games and threads.
+     * The copy is independent of this board, which can still be changed afterwards.
+     * Adding tiles or ladders to the frozen copy throws an {@link IllegalStateException}.
+     *
+     * <p>Like any immutable object without synchronization, the frozen board must be
+     * safely published to other threads, for example through a final field or a
+     * concurrent collection.
+     *
+     * @return a frozen copy of this board, or this board if it is already frozen
+     */
+    public LadderTileLogic freeze() {
+        return isFrozen() ? this : new LadderTileLogic(this);
+    }
 
     /**
      * Adds a ladder to the specified tile.
@@ -35,11 +97,12 @@ public class LadderTileLogic extends TileLogic {
      *
      * @param fromTile the tile number to add the ladder to
      * @param ladderValue the number of spaces to move (positive for up, negative for down)
-     * @throws IllegalStateException if the tile already has a ladder
+     * @throws IllegalStateException if the tile already has a ladder or the board is frozen
      * @throws IllegalArgumentException if the ladder would move players beyond board boundaries
      *         or if the effect value exceeds {@value #MAX_EFFECT}
      */
     public void addLadder(int fromTile, int ladderValue) {
+        checkNotFrozen();
         Tile tile = getTileByNumber(fromTile);
         if (tile == null) {
             return;
@@ -58,58 +121,124 @@ public class LadderTileLogic extends TileLogic {
             throw new IllegalArgumentException("Ladder effect value " + ladderValue + " exceeds maximum allowed value of " + MAX_EFFECT);
         }
 
+        if (ladderValue == 0) {
+            // A ladder that goes nowhere leaves the tile plain
+            return;
+        }
 
-        if (wouldCreateCircularPath(fromTile, targetTile)) {
+        int[] links = getChainLinks();
+        int chainEnd = findChainEnd(links, targetTile);
+        if (chainEnd == fromTile) {
             throw new IllegalArgumentException("Adding ladder would create a circular path");
         }
 
-        tiles.set(tiles.indexOf(tile), new LadderTile(fromTile, ladderValue));
+        super.addTile(new LadderTile(fromTile, ladderValue));
+        links[fromTile] = chainEnd;
     }
 
     /**
-     * Checks if adding a ladder would create a circular path.
-     * A circular path occurs when a sequence of ladders would eventually
-     * lead back to the starting tile.
+     * Adds or replaces a tile on the board and discards the ladder chain index.
      *
-     * @param startTile the tile where the new ladder starts
-     * @param targetTile the tile where the new ladder ends
-     * @return true if adding the ladder would create a circular path
+     * @param tile the tile to add or replace
      */
-    private boolean wouldCreateCircularPath(int startTile, int targetTile) {
-        int currentTile = targetTile;
-        int steps = 0;
-        int maxSteps = getBoardSize();
+    @Override
+    public void addTile(Tile tile) {
+        super.addTile(tile);
+        chainLinks = null;
+    }
+
+    /**
+     * Fills the board with plain squares up to the given size and discards the ladder
+     * chain index, which was sized for the old board.
+     *
+     * @param boardSize the highest tile number to fill
+     */
+    @Override
+    public void fillPlainTiles(int boardSize) {
+        super.fillPlainTiles(boardSize);
+        chainLinks = null;
+    }
 
-        while (steps < maxSteps) {
-            Tile tile = getTileByNumber(currentTile);
+    /**
+     * Returns the ladder chain index, rebuilding it from the current tiles if needed.
+     * Each tile is linked at most once, when its own ladder is added, so the links
+     * never form a cycle.
+     *
+     * @return the union-find links of the ladder chains
+     */
+    private int[] getChainLinks() {
+        int[] links = chainLinks;
+        if (links != null) {
+            return links;
+        }
+        links = new int[getTileNumberBound() + 1];
+        for (int i = 0; i < links.length; i++) {
+            links[i] = i;
+        }
+        for (Tile tile : tiles) {
             if (tile == null || tile.getEffect() == 0) {
-                return false;
+                continue;
             }
-
-            currentTile = currentTile + tile.getEffect();
-            if (currentTile == startTile) {
-                return true;
+            int fromTile = tile.getTileNumber();
+            int targetTile = fromTile + tile.getEffect();
+            if (targetTile < 0 || targetTile >= links.length) {
+                continue;
+            }
+            int chainEnd = findChainEnd(links, targetTile);
+            if (chainEnd != fromTile) {
+                links[fromTile] = chainEnd;
             }
-
-            steps++;
         }
+        chainLinks = links;
+        return links;
+    }
 
-        return false;
+    /**
+     * Finds the last tile of the ladder chain that starts at the given tile.
+     * Links are halved along the way so later lookups take fewer steps.
+     * Adding a ladder from a tile creates a circular path exactly when the chain
+     * starting at the ladder's target ends at that tile.
+     *
+     * @param links the union-find links of the ladder chains
+     * @param tile the tile to start from
+     * @return the tile where the chain ends
+     */
+    private static int findChainEnd(int[] links, int tile) {
+        if (tile < 0 || tile >= links.length) {
+            return tile;
+        }
+        while (links[tile] != tile) {
+            links[tile] = links[links[tile]];
+            tile = links[tile];
+        }
+        return tile;
     }
 
     /**
      * Returns a map of all ladder tiles on the board.
      * The map keys are tile numbers, and the values are the ladder effects.
      * Only tiles with non-zero effects (i.e., ladders) are included.
+     * The returned map is unmodifiable and shared until the ladders change.
      *
      * @return a map of tile numbers to ladder effects
      */
     public Map<Integer, Integer> getLadderMap() {
-        return tiles.stream()
-                .filter(tile -> tile.getEffect() != 0)
-                .collect(Collectors.toMap(
-                        Tile::getTileNumber,
-                        Tile::getEffect
-                ));
+        return getLadderSnapshot().getLadderMap();
+    }
+
+    /**
+     * Returns an immutable view of the ladders on the board.
+     * The view is cached and only rebuilt after a tile or ladder has been added.
+     *
+     * @return the current ladder snapshot
+     */
+    public LadderSnapshot getLadderSnapshot() {
+        LadderSnapshot snapshot = ladderSnapshot;
+        int version = getVersion();
+        if (snapshot == null || snapshot.getVersion() != version) {
+            snapshot = new LadderSnapshot(version, tiles, getTileNumberBound());
+            ladderSnapshot = snapshot;
+        }
+        return snapshot;
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,6 @@
 package modell.tiles;
 
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Manages the SkipNextTurnTile instances on the game board.
@@ -35,21 +34,16 @@ public class SkipNextTurnTileLogic extends TileLogic {
     if (tile.getEffect() != 0) {
       throw new IllegalStateException("Tile " + fromTile + " already has a special effect");
     }
-    tiles.set(tiles.indexOf(tile), new SkipNextTurnTile(fromTile));
+    addTile(new SkipNextTurnTile(fromTile));
   }
 
   /**
    * Returns a map of all skip-next-turn tiles on the board.
    * The map keys are tile numbers, and the values are their effect values (always 0).
    *
-   * @return a map of tile numbers to effect values for SkipNextTurnTile
+   * @return a map of tile numbers to effect values for SkipNextTurnTile, ordered by tile number
    */
   public Map<Integer,Integer> getSkipNextTurnMap() {
-    return tiles.stream()
-        .filter(t -> t instanceof SkipNextTurnTile)
-        .collect(Collectors.toMap(
-            Tile::getTileNumber,
-            Tile::getEffect
-        ));
+    return getEffectMap(TileEffect.SKIP_NEXT_TURN);
   }
 }
\ No newline at end of file
@@ -22,7 +22,7 @@ package modell.tiles;
  */
 public abstract class Tile {
   /** Maximum allowed tile number on the board */
-  private static final int MAX_TILE_NUMBER = 1000;
+  static final int MAX_TILE_NUMBER = 1000;
   /** The unique number identifying this tile on the board */
   private final int tileNumber;
 
@@ -0,0 +1,32 @@
+package modell.tiles;
+
+/**
+ * The kinds of effect a square on the board can have when a player lands on it.
+ * The ordinal of each kind is the code stored by {@link TileEngine}.
+ *
+ * @author didrik
+ * @version 1.0
+ */
+public enum TileEffect {
+  /** No effect, the player stays on the square */
+  PLAIN,
+  /** The player is moved up or down by the magnitude of the ladder or snake */
+  LADDER,
+  /** The player may roll the dice again */
+  EXTRA_THROW,
+  /** The player loses their next turn */
+  SKIP_NEXT_TURN;
+
+  /** Kinds indexed by their code, shared to avoid copying {@code values()} on every lookup */
+  private static final TileEffect[] BY_CODE = values();
+
+  /**
+   * Returns the effect kind with the given code.
+   *
+   * @param code the code of the effect kind, as returned by {@link #ordinal()}
+   * @return the effect kind
+   */
+  public static TileEffect fromCode(int code) {
+    return BY_CODE[code];
+  }
+}
@@ -0,0 +1,201 @@
+package modell.tiles;
+
+import modell.dice.DiceSet;
+
+/**
+ * Compiled, read-only form of a board that answers what happens when a player lands
+ * on a square. Every square's effect kind and magnitude are packed into a single int,
+ * and every raw position a roll can reach, including overshoot past the last tile,
+ * is resolved up front to a packed outcome holding the final tile and the effect that
+ * was applied. A landing is therefore answered with one array read, whether the square
+ * holds a ladder, an extra throw or a skipped turn.
+ *
+ * <p>Engines are created and cached by {@link TileLogic#getTileEngine()} and stay valid
+ * until the board changes, which bumps the board's version.
+ *
+ * <p>Example usage:
+ * <pre>
+ * TileEngine engine = logic.getTileEngine();
+ * int outcome = engine.land(player.getPlayerPosition());
+ * int tile = TileEngine.destination(outcome);    // Tile after bounce-back and ladders
+ * TileEffect effect = TileEngine.effect(outcome); // What happened on the square
+ * </pre>
+ *
+ * @author didrik
+ * @version 1.0
+ */
+public final class TileEngine {
+  /** Number of low bits holding the effect kind in a packed square or outcome */
+  private static final int KIND_BITS = 2;
+  /** Mask selecting the effect kind in a packed square or outcome */
+  private static final int KIND_MASK = (1 << KIND_BITS) - 1;
+
+  /** Board version this engine was compiled at */
+  private final int version;
+  /** Number of tiles on the board */
+  private final int boardSize;
+  /** Packed effect magnitude and kind, indexed by tile number */
+  private final int[] squares;
+  /** Packed destination tile and applied effect kind, indexed by raw landing position */
+  private final int[] outcomes;
+
+  /**
+   * Compiles the tiles of a board.
+   * Extra-throw and skip-next-turn tiles are recognised by type; any other tile with a
+   * non-zero effect moves the player like a ladder.
+   *
+   * @param version the board version the engine is compiled at
+   * @param logic the board to compile
+   */
+  TileEngine(int version, TileLogic logic) {
+    this.version = version;
+    this.boardSize = logic.getBoardSize();
+    this.squares = new int[logic.getTileNumberBound()];
+    for (Tile tile : logic.tiles) {
+      if (tile != null) {
+        squares[tile.getTileNumber()] = packSquare(tile);
+      }
+    }
+    this.outcomes = new int[boardSize + DiceSet.MAX_ROLL + 1];
+    for (int position = 0; position < outcomes.length; position++) {
+      outcomes[position] = computeOutcome(position);
+    }
+  }
+
+  /**
+   * Packs the effect of a single tile.
+   *
+   * @param tile the tile to pack
+   * @return the effect magnitude shifted above the effect kind
+   */
+  private static int packSquare(Tile tile) {
+    if (tile instanceof ExtraThrowTile) {
+      return TileEffect.EXTRA_THROW.ordinal();
+    }
+    if (tile instanceof SkipNextTurnTile) {
+      return TileEffect.SKIP_NEXT_TURN.ordinal();
+    }
+    if (tile.getEffect() != 0) {
+      return (tile.getEffect() << KIND_BITS) | TileEffect.LADDER.ordinal();
+    }
+    return TileEffect.PLAIN.ordinal();
+  }
+
+  /**
+   * Applies the bounce-back rule and the effect of the resulting square to a raw position.
+   *
+   * @param position the raw position reached by the dice roll
+   * @return the packed outcome
+   */
+  private int computeOutcome(int position) {
+    return landOn(bounce(position));
+  }
+
+  /**
+   * Applies the bounce-back rule to a raw position.
+   * A position past the last tile bounces back by the overshoot.
+   *
+   * @param position the raw position reached by the dice roll
+   * @return the tile the player lands on before any square effect
+   */
+  public int bounce(int position) {
+    return position > boardSize ? boardSize - (position - boardSize) : position;
+  }
+
+  /**
+   * Returns the board version this engine was compiled at.
+   *
+   * @return the board version
+   */
+  public int getVersion() {
+    return version;
+  }
+
+  /**
+   * Resolves a landing on the given raw position.
+   * A position past the last tile bounces back by the overshoot, and the effect of the
+   * resulting square is then applied once. Positions up to the board size plus
+   * {@link DiceSet#MAX_ROLL} are answered with a single table lookup.
+   *
+   * @param position the raw position reached by the dice roll
+   * @return the packed outcome, read with {@link #destination(int)} and {@link #effect(int)}
+   */
+  public int land(int position) {
+    if (position >= 0 && position < outcomes.length) {
+      return outcomes[position];
+    }
+    return computeOutcome(position);
+  }
+
+  /**
+   * Resolves a landing on the given tile without applying the bounce-back rule.
+   *
+   * @param tileNumber the tile the player landed on
+   * @return the packed outcome, read with {@link #destination(int)} and {@link #effect(int)}
+   */
+  public int landOn(int tileNumber) {
+    int square = tileNumber >= 0 && tileNumber < squares.length ? squares[tileNumber] : 0;
+    int destination = tileNumber + (square >> KIND_BITS);
+    return (destination << KIND_BITS) | (square & KIND_MASK);
+  }
+
+  /**
+   * Returns the tile a packed outcome leaves the player on.
+   *
+   * @param outcome a packed outcome
+   * @return the destination tile
+   */
+  public static int destination(int outcome) {
+    return outcome >> KIND_BITS;
+  }
+
+  /**
+   * Returns the code of the effect applied in a packed outcome.
+   * The code is the ordinal of the matching {@link TileEffect}.
+   *
+   * @param outcome a packed outcome
+   * @return the effect code
+   */
+  public static int effectCode(int outcome) {
+    return outcome & KIND_MASK;
+  }
+
+  /**
+   * Returns the effect applied in a packed outcome.
+   *
+   * @param outcome a packed outcome
+   * @return the effect kind
+   */
+  public static TileEffect effect(int outcome) {
+    return TileEffect.fromCode(outcome & KIND_MASK);
+  }
+
+  /**
+   * Returns the effect kind of the given square.
+   *
+   * @param tileNumber the tile number
+   * @return the effect kind, {@link TileEffect#PLAIN} for squares without a special tile
+   */
+  public TileEffect getEffect(int tileNumber) {
+    return effect(landOn(tileNumber));
+  }
+
+  /**
+   * Returns how far the given square moves a player.
+   *
+   * @param tileNumber the tile number
+   * @return the ladder effect, or 0 if the square does not move the player
+   */
+  public int getMagnitude(int tileNumber) {
+    return destination(landOn(tileNumber)) - tileNumber;
+  }
+
+  /**
+   * Returns the number of tiles on the board this engine was compiled from.
+   *
+   * @return the board size
+   */
+  public int getBoardSize() {
+    return boardSize;
+  }
+}
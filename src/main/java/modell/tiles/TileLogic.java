@@ -1,7 +1,10 @@
 package modell.tiles;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Manages a collection of tiles that form a game board.
@@ -9,13 +12,22 @@ import java.util.List;
  * including adding tiles, retrieving tiles by number, and maintaining the board's structure.
  * Concrete implementations can add specific game rules and tile behaviors.
  *
- * <p>The board is represented as a list of tiles, where each tile has a unique number.
- * Tiles can be added, replaced, or retrieved by their number.
+ * <p>Plain squares are stored implicitly: the board remembers how many consecutive squares,
+ * starting at tile 1, it has, and only special tiles are kept in a table indexed by tile
+ * number. Plain squares are handed out as shared {@link LadderTile#plain(int) flyweight}
+ * tiles when asked for, so a board holds no object per plain square. Looking up,
+ * replacing or inserting a tile is a constant-time operation.
+ *
+ * <p>What happens when a player lands on a square is answered by a compiled
+ * {@link TileEngine}, which is built on first use and rebuilt only after the board
+ * has changed. Any mix of ladders, extra-throw and skip-next-turn tiles is resolved
+ * with a single read.
  *
  * <p>Example usage:
  * <pre>
  * TileLogic logic = new LadderTileLogic();
- * logic.addTile(new LadderTile(1, 0));  // Add a normal tile
+ * logic.fillPlainTiles(100);             // Add plain tiles 1-100
+ * logic.addTile(new LadderTile(5, 10));  // Replace tile 5 with a special tile
  * Tile tile = logic.getTileByNumber(1);  // Get tile by number
  * int size = logic.getBoardSize();       // Get total number of tiles
  * List<Tile> allTiles = logic.getTiles(); // Get all tiles
@@ -25,45 +37,242 @@ import java.util.List;
  * @version 1.0
  */
 public abstract class TileLogic {
-  /** List containing all tiles on the board */
-  protected List<Tile> tiles;
+  /** Shared empty tile table for boards without special tiles */
+  private static final Tile[] NO_TILES = new Tile[0];
+
+  /** Special and explicitly added tiles on the board, indexed by tile number */
+  protected Tile[] tiles;
+  /** Squares 1 to this number are on the board, as plain tiles unless overridden in the table */
+  private int plainSquares;
+  /** Number of distinct tile numbers on the board */
+  private int tileCount;
+  /** Whether the board is frozen and can no longer be changed */
+  private final boolean frozen;
+  /** Version of the board, incremented every time a tile changes */
+  private int version;
+  /** Cached compiled board, valid while its version matches the board version */
+  private TileEngine tileEngine;
 
   /**
    * Constructs a new empty game board.
-   * Initializes an empty list to store the board's tiles.
+   * Initializes an empty tile table to store the board's tiles.
    */
   protected TileLogic() {
-    this.tiles = new ArrayList<>();
+    this.tiles = NO_TILES;
+    this.frozen = false;
+  }
+
+  /**
+   * Constructs a game board of plain squares from 1 to the board size,
+   * overridden by the special tiles in the given table.
+   * The table is used as is, so the caller must not modify it afterwards.
+   *
+   * @param specialTiles the special tiles, indexed by tile number between 1 and the board size
+   * @param boardSize the number of squares on the board
+   */
+  protected TileLogic(Tile[] specialTiles, int boardSize) {
+    this.tiles = specialTiles;
+    this.plainSquares = boardSize;
+    this.tileCount = boardSize;
+    this.frozen = false;
+  }
+
+  /**
+   * Constructs a frozen copy of another game board.
+   * The copy has its own tile table and rejects every change. Its tile engine is
+   * compiled up front, so no method of the copy ever writes to it.
+   *
+   * @param source the board to copy
+   */
+  protected TileLogic(TileLogic source) {
+    this.tiles = source.tiles.length == 0 ? NO_TILES : source.tiles.clone();
+    this.plainSquares = source.plainSquares;
+    this.tileCount = source.tileCount;
+    this.frozen = true;
+    this.version = source.version;
+    this.tileEngine = new TileEngine(version, this);
   }
 
   /**
    * Returns the tile with the specified number.
-   * Searches through the board's tiles to find one with the matching number.
+   * Special tiles are read from the tile table; plain squares are returned as shared tiles.
    *
    * @param tileNumber the number of the tile to find
    * @return the tile with the specified number, or null if not found
    */
   public Tile getTileByNumber(int tileNumber) {
-    return tiles.stream()
-            .filter(tile -> tile.getTileNumber() == tileNumber)
-            .findFirst()
-            .orElse(null);
+    if (tileNumber >= 0 && tileNumber < tiles.length) {
+      Tile tile = tiles[tileNumber];
+      if (tile != null) {
+        return tile;
+      }
+    }
+    if (tileNumber >= 1 && tileNumber <= plainSquares) {
+      return LadderTile.plain(tileNumber);
+    }
+    return null;
   }
 
   /**
    * Adds or replaces a tile on the board.
    * If a tile with the same number already exists, it will be replaced.
    * Otherwise, the new tile will be added to the board.
+   * A plain ladder tile that continues or falls inside the run of plain squares is not
+   * stored, since that square is already represented implicitly.
    *
    * @param tile the tile to add or replace
+   * @throws IllegalStateException if the board is frozen
    */
   public void addTile(Tile tile) {
-    int index = tiles.indexOf(getTileByNumber(tile.getTileNumber()));
-    if (index != -1) {
-      tiles.set(index, tile);
+    checkNotFrozen();
+    int tileNumber = tile.getTileNumber();
+    boolean present = getTileByNumber(tileNumber) != null;
+
+    if (isPlainTile(tile) && tileNumber >= 1 && tileNumber <= plainSquares + 1) {
+      if (tileNumber < tiles.length) {
+        tiles[tileNumber] = null;
+      }
+      if (tileNumber == plainSquares + 1) {
+        plainSquares++;
+      }
     } else {
-      tiles.add(tile);
+      ensureCapacity(tileNumber);
+      tiles[tileNumber] = tile;
+    }
+    if (!present) {
+      tileCount++;
+    }
+    version++;
+  }
+
+  /**
+   * Puts a plain square on every tile number from 1 to the given size that has no tile yet.
+   * No tile objects are created; the squares are represented implicitly.
+   *
+   * @param boardSize the highest tile number to fill
+   * @throws IllegalStateException if the board is frozen
+   */
+  public void fillPlainTiles(int boardSize) {
+    checkNotFrozen();
+    for (int tileNumber = plainSquares + 1; tileNumber <= boardSize; tileNumber++) {
+      if (tileNumber >= tiles.length || tiles[tileNumber] == null) {
+        tileCount++;
+      }
+    }
+    plainSquares = Math.max(plainSquares, boardSize);
+    version++;
+  }
+
+  /**
+   * Returns the compiled form of the board that resolves landings.
+   * The engine is cached and only rebuilt after a tile has been added.
+   *
+   * @return the current tile engine
+   */
+  public TileEngine getTileEngine() {
+    TileEngine engine = tileEngine;
+    if (engine == null || engine.getVersion() != version) {
+      engine = new TileEngine(version, this);
+      tileEngine = engine;
+    }
+    return engine;
+  }
+
+  /**
+   * Returns the tile a player ends up on after landing on the given raw position.
+   * A position past the last tile bounces back by the overshoot, and a ladder on the
+   * resulting tile is then applied once.
+   *
+   * @param position the raw position reached by the dice roll
+   * @return the resolved position after bounce-back and ladder effects
+   * @see TileEngine#land(int)
+   */
+  public int resolveLanding(int position) {
+    return TileEngine.destination(getTileEngine().land(position));
+  }
+
+  /**
+   * Collects the squares with the given effect kind from the tile engine.
+   *
+   * @param kind the effect kind to collect
+   * @return a map of tile numbers to effect magnitudes, ordered by tile number
+   */
+  protected Map<Integer, Integer> getEffectMap(TileEffect kind) {
+    TileEngine engine = getTileEngine();
+    Map<Integer, Integer> result = new LinkedHashMap<>();
+    int bound = getTileNumberBound();
+    for (int tileNumber = 1; tileNumber < bound; tileNumber++) {
+      if (engine.getEffect(tileNumber) == kind) {
+        result.put(tileNumber, engine.getMagnitude(tileNumber));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the version of the board, which changes every time a tile is added.
+   *
+   * @return the board version
+   */
+  protected int getVersion() {
+    return version;
+  }
+
+  /**
+   * Returns whether the board is frozen.
+   * A frozen board never changes, so it can be shared between threads and games
+   * without synchronization once it has been safely published.
+   *
+   * @return true if the board is frozen
+   */
+  public boolean isFrozen() {
+    return frozen;
+  }
+
+  /**
+   * Ensures that the board may still be changed.
+   *
+   * @throws IllegalStateException if the board is frozen
+   */
+  protected void checkNotFrozen() {
+    if (frozen) {
+      throw new IllegalStateException("Board is frozen and cannot be changed");
+    }
+  }
+
+  /**
+   * Checks whether a tile is a plain ladder tile that can be represented implicitly.
+   *
+   * @param tile the tile to check
+   * @return true if the tile is a ladder tile without effect
+   */
+  private static boolean isPlainTile(Tile tile) {
+    return tile.getClass() == LadderTile.class && tile.getEffect() == 0;
+  }
+
+  /**
+   * Grows the tile table so that it can hold the given tile number.
+   * The table at least doubles when it grows, but never beyond the maximum tile number.
+   *
+   * @param tileNumber the tile number that must fit in the table
+   */
+  private void ensureCapacity(int tileNumber) {
+    if (tileNumber < tiles.length) {
+      return;
     }
+    int newLength = Math.min(Math.max(tileNumber + 1, tiles.length * 2),
+        Tile.MAX_TILE_NUMBER + 1);
+    tiles = Arrays.copyOf(tiles, newLength);
+  }
+
+  /**
+   * Returns an exclusive upper bound for the tile numbers on the board.
+   * Tables indexed by tile number can use this as their length.
+   *
+   * @return one more than the highest tile number that may be on the board
+   */
+  protected int getTileNumberBound() {
+    return Math.max(tiles.length, plainSquares + 1);
   }
 
   /**
@@ -72,17 +281,25 @@ public abstract class TileLogic {
    * @return the number of tiles
    */
   public int getBoardSize() {
-    return tiles.size();
+    return tileCount;
   }
 
   /**
-   * Returns a copy of all tiles on the board.
-   * The returned list is a new ArrayList containing all tiles,
-   * preventing external modification of the internal tile list.
+   * Returns a copy of all tiles on the board, ordered by tile number.
+   * Plain squares are included as shared tiles.
+   * The returned list is a new ArrayList, preventing external modification of the board.
    *
    * @return a new list containing all tiles
    */
   public List<Tile> getTiles() {
-    return new ArrayList<>(tiles);
+    List<Tile> result = new ArrayList<>(tileCount);
+    int bound = getTileNumberBound();
+    for (int tileNumber = 0; tileNumber < bound; tileNumber++) {
+      Tile tile = getTileByNumber(tileNumber);
+      if (tile != null) {
+        result.add(tile);
+      }
+    }
+    return result;
   }
 }
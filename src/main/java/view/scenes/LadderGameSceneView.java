@@ -7,6 +7,7 @@ import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.TextArea;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.*;
@@ -26,6 +27,7 @@ import static view.ui.UiFactory.button;
  *     <li>Game log for tracking moves and events</li>
  *     <li>Save/load game functionality</li>
  *     <li>Player turn management and phase control</li>
+ *     <li>A turbo switch that plays the game without animations</li>
  * </ul>
  *
  * @author Sondre Odberg
@@ -100,12 +102,18 @@ public class LadderGameSceneView extends AbstractScene {
     ImageView die2 = controller.getDie2View();
     Button rollBtn = controller.getRollDiceButton();
 
+    CheckBox turboBox = new CheckBox("Turbo");
+    turboBox.setTextFill(Color.WHITE);
+    turboBox.setSelected(controller.isTurbo());
+    turboBox.setOnAction(e -> controller.setTurbo(turboBox.isSelected()));
+
     controlsBox.getChildren().addAll(
         currentPlayerText,
         diceResultText,
         die1,
         die2,
-        rollBtn
+        rollBtn,
+        turboBox
     );
 
     // Action Buttons
@@ -1,7 +1,6 @@
 package view.ui;
 
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import javafx.animation.KeyFrame;
@@ -9,6 +8,7 @@ import javafx.animation.Timeline;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.util.Duration;
+import modell.dice.RandomSource;
 
 /**
  * Utility class for handling game animations in the view layer.
@@ -25,26 +25,34 @@ import javafx.util.Duration;
  * @version 1.0
  */
 public class AnimationRenderer {
+  /** Source of the faces shown while the dice spin, kept apart from the game's dice */
+  private static final RandomSource SPIN_FACES = RandomSource.create();
 
   /**
    * Plays a die roll animation on two ImageView components.
-   * The animation shows random dice faces changing rapidly before settling on the final values.
+   * The animation shows random dice faces changing rapidly before settling on the faces
+   * that were rolled. The roll itself is made by the game's dice beforehand, so the
+   * animation never decides the outcome.
    *
    * <p>The animation sequence:
    * <ol>
    *     <li>Loads all six dice face images</li>
    *     <li>Creates a timeline that changes faces every 80ms</li>
    *     <li>Runs for 12 cycles (approximately 1 second)</li>
-   *     <li>Generates final random values and calls the callback</li>
+   *     <li>Shows the rolled faces and calls the callback</li>
    * </ol>
    *
    * @param die1   ImageView for the first die
    * @param die2   ImageView for the second die
-   * @param onDone Callback that receives the final dice values (a,b) when animation completes
+   * @param face1  the rolled face of the first die (1-6)
+   * @param face2  the rolled face of the second die (1-6)
+   * @param onDone Callback that runs when the animation completes
    */
   public static void playDiceRoll(ImageView die1,
                                   ImageView die2,
-                                  java.util.function.BiConsumer<Integer, Integer> onDone) {
+                                  int face1,
+                                  int face2,
+                                  Runnable onDone) {
 
     List<Image> faces = IntStream.rangeClosed(1, 6)
             .mapToObj(i -> ResourceLoader.getDiceImage("die_" + i + ".png"))
@@ -53,20 +61,31 @@ public class AnimationRenderer {
 
     Timeline t = new Timeline(
             new KeyFrame(Duration.ZERO, e -> {
-              die1.setImage(faces.get(ThreadLocalRandom.current().nextInt(6)));
-              die2.setImage(faces.get(ThreadLocalRandom.current().nextInt(6)));
+              die1.setImage(faces.get(SPIN_FACES.nextInt(6)));
+              die2.setImage(faces.get(SPIN_FACES.nextInt(6)));
             }),
             new KeyFrame(Duration.millis(80))
     );
     t.setCycleCount(12);
     t.setOnFinished(e -> {
-
-      int a = ThreadLocalRandom.current().nextInt(1, 7);
-      int b = ThreadLocalRandom.current().nextInt(1, 7);
-      onDone.accept(a, b);
+      showDice(die1, die2, face1, face2);
+      onDone.run();
     });
     t.play();
   }
 
+  /**
+   * Shows the rolled faces on two ImageView components at once, without animation.
+   *
+   * @param die1  ImageView for the first die
+   * @param die2  ImageView for the second die
+   * @param face1 the rolled face of the first die (1-6)
+   * @param face2 the rolled face of the second die (1-6)
+   */
+  public static void showDice(ImageView die1, ImageView die2, int face1, int face2) {
+    die1.setImage(ResourceLoader.getDiceImage("die_" + face1 + ".png"));
+    die2.setImage(ResourceLoader.getDiceImage("die_" + face2 + ".png"));
+  }
+
   private AnimationRenderer() {}
 }
@@ -0,0 +1,72 @@
+package diagnostics;
+
+import controller.controllers.GamePhaseController;
+import controller.diagnostics.LatencyHistogram;
+import controller.diagnostics.PhaseMetrics;
+import java.util.concurrent.TimeUnit;
+import modell.gameboard.GamePhase;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the phase latency histograms.
+ * Tests bucketing accuracy and recording through the phase controller.
+ */
+class PhaseMetricsTest {
+
+    /**
+     * Tests that percentiles are within the bucket accuracy of the recorded values.
+     */
+    @Test
+    void testHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int ms = 1; ms <= 100; ms++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(ms));
+        }
+        TimeUnit unit = TimeUnit.MILLISECONDS;
+        assertEquals(100, histogram.getCount());
+        assertEquals(50.5, histogram.getMean(unit), 1e-9);
+        assertEquals(100, histogram.getMax(unit), 1e-9);
+        assertEquals(50, histogram.getPercentile(0.5, unit), 50 * 0.125);
+        assertEquals(99, histogram.getPercentile(0.99, unit), 99 * 0.125);
+        assertTrue(histogram.getPercentile(1.0, unit) <= 100);
+
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-5);
+        assertEquals(102, histogram.getCount());
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(0.5, unit));
+    }
+
+    /**
+     * Tests that the phase controller records phases and turns only while enabled.
+     */
+    @Test
+    void testPhaseControllerRecords() {
+        PhaseMetrics metrics = new PhaseMetrics(false);
+        GamePhaseController controller = new GamePhaseController(metrics);
+
+        playTurn(controller);
+        assertEquals(0, metrics.getTurnHistogram().getCount());
+
+        metrics.setEnabled(true);
+        playTurn(controller);
+        playTurn(controller);
+        assertEquals(2, metrics.getTurnHistogram().getCount());
+        assertEquals(2, metrics.getPhaseHistogram(GamePhase.ROLL_DICE).getCount());
+        assertEquals(2, metrics.getPhaseHistogram(GamePhase.SPECIAL_TILE).getCount());
+        assertEquals(2L, metrics.getCounts().get("TURN"));
+        assertTrue(metrics.getReport().contains("MOVE_PLAYER"));
+
+        metrics.reset();
+        assertEquals(0, metrics.getTurnHistogram().getCount());
+    }
+
+    private void playTurn(GamePhaseController controller) {
+        for (int phase = 0; phase < 4; phase++) {
+            controller.nextPhase();
+        }
+    }
+}
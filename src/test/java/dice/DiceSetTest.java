@@ -1,6 +1,10 @@
 package dice;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
 import modell.dice.DiceSet;
+import modell.dice.RandomSource;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -111,4 +115,117 @@ class DiceSetTest {
                 "Sum should equal individual die values");
     }
 
-}
\ No newline at end of file
+    /**
+     * Tests that dice with the same seed roll the same sequence.
+     */
+    @Test
+    void testSeededRollsAreReproducible() {
+        DiceSet first = new DiceSet(3, RandomSource.seeded(42));
+        DiceSet second = new DiceSet(3, RandomSource.seeded(42));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.roll(), second.roll());
+            assertEquals(first.getDie(2), second.getDie(2));
+        }
+    }
+
+    /**
+     * Tests that split dice sets are reproducible and independent of the original.
+     */
+    @Test
+    void testSplitIsReproducible() {
+        DiceSet first = new DiceSet(2, RandomSource.seeded(7)).split();
+        DiceSet second = new DiceSet(2, RandomSource.seeded(7)).split();
+        DiceSet unsplit = new DiceSet(2, RandomSource.seeded(7));
+
+        boolean differs = false;
+        for (int i = 0; i < 100; i++) {
+            int roll = first.roll();
+            assertEquals(roll, second.roll());
+            differs |= roll != unsplit.roll();
+        }
+        assertTrue(differs, "A split stream should not repeat the original stream");
+        assertEquals(2, first.getNumberOfDice());
+    }
+
+    /**
+     * Tests that a named JDK algorithm can back the dice.
+     */
+    @Test
+    void testNamedAlgorithm() {
+        DiceSet first = new DiceSet(2, RandomSource.of("L64X128MixRandom", 1));
+        DiceSet second = new DiceSet(2, RandomSource.of("L64X128MixRandom", 1));
+        for (int i = 0; i < 20; i++) {
+            int roll = first.roll();
+            assertTrue(roll >= 2 && roll <= 12);
+            assertEquals(roll, second.roll());
+        }
+        assertThrows(IllegalArgumentException.class, () -> RandomSource.of("Random", 1));
+        assertThrows(IllegalArgumentException.class, () -> new DiceSet(2, null));
+    }
+
+    /**
+     * Tests that bulk rolling gives the same sums as rolling one at a time.
+     */
+    @Test
+    void testRollIntoMatchesRoll() {
+        DiceSet bulk = new DiceSet(3, RandomSource.seeded(5));
+        DiceSet single = new DiceSet(3, RandomSource.seeded(5));
+        int[] sums = new int[1000];
+        bulk.rollInto(sums);
+
+        for (int sum : sums) {
+            assertEquals(single.roll(), sum);
+        }
+        assertEquals(single.getDie(0), bulk.getDie(0));
+        assertEquals(single.getDie(2), bulk.getDie(2));
+    }
+
+    /**
+     * Tests that the faces written in bulk add up to the sums.
+     */
+    @Test
+    void testRollIntoWithFaces() {
+        DiceSet diceSet = new DiceSet(2, RandomSource.seeded(9));
+        int[] sums = new int[10];
+        int[] faces = new int[20];
+        diceSet.rollInto(sums, 2, 8, faces);
+
+        assertEquals(0, sums[0]);
+        for (int i = 2; i < 10; i++) {
+            assertTrue(faces[2 * i] >= 1 && faces[2 * i] <= 6);
+            assertEquals(sums[i], faces[2 * i] + faces[2 * i + 1]);
+        }
+        assertEquals(faces[18], diceSet.getDie(0));
+        assertEquals(faces[19], diceSet.getDie(1));
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> diceSet.rollInto(sums, 5, 6, null));
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> diceSet.rollInto(sums, 0, 10, new int[19]));
+    }
+
+    /**
+     * Tests bulk rolling into heap and direct buffers.
+     */
+    @Test
+    void testRollIntoBuffer() {
+        DiceSet diceSet = new DiceSet(2, RandomSource.seeded(1));
+        DiceSet expected = new DiceSet(2, RandomSource.seeded(1));
+
+        IntBuffer heap = IntBuffer.allocate(8);
+        heap.position(2);
+        diceSet.rollInto(heap, 4);
+        assertEquals(6, heap.position());
+
+        IntBuffer direct = ByteBuffer.allocateDirect(16).asIntBuffer();
+        diceSet.rollInto(direct, 4);
+        assertEquals(4, direct.position());
+
+        for (int i = 2; i < 6; i++) {
+            assertEquals(expected.roll(), heap.get(i));
+        }
+        for (int i = 0; i < 4; i++) {
+            assertEquals(expected.roll(), direct.get(i));
+        }
+        assertThrows(BufferOverflowException.class, () -> diceSet.rollInto(heap, 3));
+    }
+}
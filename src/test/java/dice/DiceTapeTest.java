@@ -0,0 +1,163 @@
+package dice;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import modell.dice.DiceSet;
+import modell.dice.DiceTape;
+import modell.dice.RandomSource;
+import modell.gameboard.GameEngine;
+import modell.players.Player;
+import modell.players.PlayerToken;
+import modell.tiles.LadderBoardBuilder;
+import modell.tiles.LadderTileLogic;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for DiceTape functionality.
+ * Tests recording, replaying and saving dice draws.
+ */
+class DiceTapeTest {
+
+    /**
+     * Tests that a replayed tape rolls the same faces and totals.
+     */
+    @Test
+    void testRecordAndReplay() {
+        DiceTape tape = new DiceTape();
+        DiceSet recorded = new DiceSet(3, tape.record(RandomSource.create()));
+        int[] totals = new int[50];
+        int[] firstFaces = new int[50];
+        for (int i = 0; i < totals.length; i++) {
+            totals[i] = recorded.roll();
+            firstFaces[i] = recorded.getDie(0);
+        }
+        assertEquals(150, tape.getDrawCount());
+        assertEquals(150, tape.getSize());
+
+        DiceSet replayed = new DiceSet(3, tape.replay());
+        for (int i = 0; i < totals.length; i++) {
+            assertEquals(totals[i], replayed.roll());
+            assertEquals(firstFaces[i], replayed.getDie(0));
+        }
+        assertThrows(IllegalStateException.class, replayed::roll);
+    }
+
+    /**
+     * Tests that sum-sampled rolls, which draw large numbers, replay as well.
+     */
+    @Test
+    void testReplaySumSampling() {
+        DiceTape tape = new DiceTape();
+        DiceSet recorded = new DiceSet(10, tape.record(RandomSource.seeded(5)), true);
+        int[] totals = new int[100];
+        recorded.rollInto(totals);
+
+        DiceSet replayed = new DiceSet(10, tape.replay(), true);
+        for (int total : totals) {
+            assertEquals(total, replayed.roll());
+        }
+    }
+
+    /**
+     * Tests that a full tape drops its oldest draws and can no longer be replayed.
+     */
+    @Test
+    void testRingBufferDropsOldest() {
+        DiceTape tape = new DiceTape(16);
+        DiceSet dice = new DiceSet(1, tape.record(RandomSource.seeded(1)));
+        for (int i = 0; i < 20; i++) {
+            dice.roll();
+        }
+        assertEquals(16, tape.getDrawCount());
+        assertEquals(4, tape.getDroppedCount());
+        assertThrows(IllegalStateException.class, tape::replay);
+        assertThrows(IllegalArgumentException.class, () -> new DiceTape(8));
+    }
+
+    /**
+     * Tests that a tape recorded for other dice is rejected on replay.
+     */
+    @Test
+    void testMismatchedReplay() {
+        DiceTape tape = new DiceTape();
+        RandomSource source = tape.record(RandomSource.seeded(2));
+        long recorded = source.nextLong(1L << 40);
+        RandomSource replay = tape.replay();
+        assertTrue(recorded >= 6);
+        assertThrows(IllegalStateException.class, () -> replay.nextInt(6));
+    }
+
+    /**
+     * Tests that streams split from a recording source replay the same numbers.
+     */
+    @Test
+    void testSplitReplays() {
+        DiceTape tape = new DiceTape();
+        DiceSet recorded = new DiceSet(2, tape.record(RandomSource.create()));
+        DiceSet recordedChild = recorded.split();
+        int[] parentTotals = new int[10];
+        int[] childTotals = new int[10];
+        recorded.rollInto(parentTotals);
+        recordedChild.rollInto(childTotals);
+        assertEquals(21, tape.getDrawCount());
+
+        DiceSet replayed = new DiceSet(2, tape.replay());
+        DiceSet replayedChild = replayed.split();
+        for (int i = 0; i < parentTotals.length; i++) {
+            assertEquals(parentTotals[i], replayed.roll());
+            assertEquals(childTotals[i], replayedChild.roll());
+        }
+    }
+
+    /**
+     * Tests that a saved tape reads back with the same game and draws.
+     */
+    @Test
+    void testWriteAndRead() throws IOException {
+        DiceTape tape = new DiceTape();
+        tape.setGame("MANY_LADDERS", 3);
+        DiceSet recorded = new DiceSet(2, tape.record(RandomSource.seeded(3)));
+        int[] totals = new int[20];
+        recorded.rollInto(totals);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        tape.writeTo(out);
+        DiceTape read = DiceTape.readFrom(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals("MANY_LADDERS", read.getBoard());
+        assertEquals(3, read.getSeatCount());
+        assertEquals(tape.getDrawCount(), read.getDrawCount());
+        assertArrayEquals(tape.toByteArray(), read.toByteArray());
+
+        DiceSet replayed = new DiceSet(2, read.replay());
+        for (int total : totals) {
+            assertEquals(total, replayed.roll());
+        }
+        assertThrows(IOException.class,
+            () -> DiceTape.readFrom(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5})));
+    }
+
+    /**
+     * Tests that a recorded game replays headlessly to the same result.
+     */
+    @Test
+    void testReplayGame() {
+        LadderTileLogic board = new LadderBoardBuilder(90).addLadder(3, 22).addLadder(40, -12).build();
+        DiceTape tape = new DiceTape();
+
+        GameEngine original = new GameEngine(board, newPlayers(),
+            new DiceSet(2, tape.record(RandomSource.create())));
+        original.playToEnd(100_000);
+        GameEngine replay = new GameEngine(board, newPlayers(), new DiceSet(2, tape.replay()));
+        replay.playToEnd(100_000);
+
+        assertEquals(original.getTurnCount(), replay.getTurnCount());
+        assertEquals(original.getWinner().getName(), replay.getWinner().getName());
+    }
+
+    private static List<Player> newPlayers() {
+        return List.of(new Player("A", PlayerToken.DEFAULT), new Player("B", PlayerToken.DEFAULT));
+    }
+}
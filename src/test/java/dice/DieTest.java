@@ -1,6 +1,7 @@
 package dice;
 
 import modell.dice.Die;
+import modell.dice.RandomSource;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -74,4 +75,16 @@ class DieTest {
         assertTrue(differentFound,
                 "dice.Die should produce different values over multiple rolls");
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that dice with the same seed roll the same values.
+     */
+    @Test
+    void testSeededDie() {
+        Die first = new Die(RandomSource.seeded(3));
+        Die second = new Die(RandomSource.seeded(3));
+        for (int i = 0; i < 50; i++) {
+            assertEquals(first.roll(), second.roll());
+        }
+    }
+}
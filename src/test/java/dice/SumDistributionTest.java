@@ -0,0 +1,93 @@
+package dice;
+
+import modell.dice.DiceSet;
+import modell.dice.RandomSource;
+import modell.dice.SumDistribution;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for SumDistribution functionality.
+ * Tests exact sum counts, caching and alias-table sampling.
+ */
+class SumDistributionTest {
+
+    /**
+     * Tests the exact counts of two six-sided dice.
+     */
+    @Test
+    void testTwoDiceCounts() {
+        SumDistribution sums = SumDistribution.of(2, 6);
+        assertEquals(2, sums.getMinSum());
+        assertEquals(12, sums.getMaxSum());
+        assertEquals(36, sums.getOutcomes());
+        assertEquals(6, sums.getWays(7));
+        assertEquals(1, sums.getWays(12));
+        assertEquals(0, sums.getWays(13));
+        assertEquals(6.0 / 36, sums.getProbability(7), 1e-15);
+    }
+
+    /**
+     * Tests that the counts of ten dice add up to every outcome.
+     */
+    @Test
+    void testCountsAddUp() {
+        SumDistribution sums = SumDistribution.of(10, 6);
+        long total = 0;
+        for (int sum = sums.getMinSum(); sum <= sums.getMaxSum(); sum++) {
+            total += sums.getWays(sum);
+        }
+        assertEquals(60_466_176L, sums.getOutcomes());
+        assertEquals(sums.getOutcomes(), total);
+    }
+
+    /**
+     * Tests that distributions are cached per configuration.
+     */
+    @Test
+    void testCached() {
+        assertSame(SumDistribution.of(3, 6), SumDistribution.of(3, 6));
+        assertNotSame(SumDistribution.of(3, 6), SumDistribution.of(3, 4));
+        assertThrows(IllegalArgumentException.class, () -> SumDistribution.of(0, 6));
+        assertThrows(IllegalArgumentException.class, () -> SumDistribution.of(40, 6));
+    }
+
+    /**
+     * Tests that sampled sums follow the exact distribution.
+     */
+    @Test
+    void testSampleFrequencies() {
+        SumDistribution sums = SumDistribution.of(2, 6);
+        RandomSource random = RandomSource.seeded(7);
+        int samples = 360_000;
+        int[] counts = new int[13];
+        for (int i = 0; i < samples; i++) {
+            counts[sums.sample(random)]++;
+        }
+        for (int sum = 2; sum <= 12; sum++) {
+            assertEquals(sums.getProbability(sum), (double) counts[sum] / samples, 0.003);
+        }
+    }
+
+    /**
+     * Tests a dice set in sum-sampling mode.
+     */
+    @Test
+    void testSumSamplingDiceSet() {
+        DiceSet diceSet = new DiceSet(10, RandomSource.seeded(3), true);
+        assertTrue(diceSet.isSumSampling());
+        for (int i = 0; i < 1000; i++) {
+            int roll = diceSet.roll();
+            assertTrue(roll >= 10 && roll <= 60);
+        }
+        assertThrows(IllegalStateException.class, () -> diceSet.getDie(0));
+        assertTrue(diceSet.split().isSumSampling());
+        assertFalse(new DiceSet(2).isSumSampling());
+
+        int[] sums = new int[100];
+        diceSet.rollInto(sums);
+        for (int sum : sums) {
+            assertTrue(sum >= 10 && sum <= 60);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import modell.events.AsyncGameEventSink;
+import modell.events.GameEventSink;
+import modell.events.GameEventType;
+import modell.events.GameEvents;
+import modell.gameboard.GameboardLogic;
+import modell.players.Player;
+import modell.players.PlayerToken;
+import modell.tiles.LadderBoardBuilder;
+import modell.tiles.LadderTileLogic;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the game event sinks.
+ * Tests the asynchronous ring buffer and the events the model publishes.
+ */
+class AsyncGameEventSinkTest {
+
+    /**
+     * Tests that events from several threads are all consumed, in order per thread.
+     */
+    @Test
+    void testConcurrentPublishing() throws InterruptedException {
+        int threads = 4;
+        int perThread = 10_000;
+        List<List<Integer>> received = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            received.add(new ArrayList<>());
+        }
+        AsyncGameEventSink sink = new AsyncGameEventSink(
+            (type, subject, tile, amount) -> received.get(tile).add(amount), 1 << 16);
+
+        List<Thread> publishers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            int thread = i;
+            publishers.add(new Thread(() -> {
+                for (int n = 0; n < perThread; n++) {
+                    sink.publish(GameEventType.PLAYER_MOVED, "Player", thread, n);
+                }
+            }));
+        }
+        publishers.forEach(Thread::start);
+        for (Thread publisher : publishers) {
+            publisher.join();
+        }
+        sink.close();
+
+        assertEquals(0, sink.getDroppedCount());
+        for (int i = 0; i < threads; i++) {
+            assertEquals(perThread, received.get(i).size());
+            for (int n = 0; n < perThread; n++) {
+                assertEquals(n, received.get(i).get(n));
+            }
+        }
+    }
+
+    /**
+     * Tests that events are dropped instead of blocking when the buffer is full.
+     */
+    @Test
+    void testFullBufferDrops() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> received = new ArrayList<>();
+        AsyncGameEventSink sink = new AsyncGameEventSink((type, subject, tile, amount) -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.add(amount);
+        }, 4);
+
+        for (int n = 0; n < 20; n++) {
+            sink.publish(GameEventType.BOUNCED_BACK, "Player", 0, n);
+        }
+        release.countDown();
+        sink.close();
+
+        assertTrue(sink.getDroppedCount() > 0);
+        assertEquals(20, received.size() + sink.getDroppedCount());
+        sink.publish(GameEventType.BOUNCED_BACK, "Player", 0, 0);
+        assertEquals(20, received.size() + sink.getDroppedCount() - 1);
+        assertThrows(IllegalArgumentException.class,
+            () -> new AsyncGameEventSink((type, subject, tile, amount) -> { }, 3));
+    }
+
+    /**
+     * Tests that every event published while the sink closes is consumed or dropped.
+     */
+    @Test
+    void testPublishingWhileClosing() throws InterruptedException {
+        for (int round = 0; round < 20; round++) {
+            int threads = 4;
+            long[] received = {0};
+            long[] published = new long[threads];
+            AsyncGameEventSink sink = new AsyncGameEventSink(
+                (type, subject, tile, amount) -> received[0]++, 1 << 10);
+            CountDownLatch started = new CountDownLatch(threads);
+
+            List<Thread> publishers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                int thread = i;
+                publishers.add(new Thread(() -> {
+                    started.countDown();
+                    for (int n = 0; n < 5_000; n++) {
+                        sink.publish(GameEventType.PLAYER_MOVED, "Player", thread, n);
+                        published[thread]++;
+                    }
+                }));
+            }
+            publishers.forEach(Thread::start);
+            started.await();
+            sink.close();
+            for (Thread publisher : publishers) {
+                publisher.join();
+            }
+
+            long total = 0;
+            for (long count : published) {
+                total += count;
+            }
+            assertEquals(total, received[0] + sink.getDroppedCount());
+        }
+    }
+
+    /**
+     * Tests that landings publish bounce and ladder events with readable text.
+     */
+    @Test
+    void testGameboardLogicPublishes() {
+        List<String> lines = new ArrayList<>();
+        GameEventSink sink = (type, subject, tile, amount) ->
+            lines.add(type.format(subject, tile, amount));
+        GameboardLogic logic = new GameboardLogic(sink);
+        LadderTileLogic board = new LadderBoardBuilder(100).addLadder(96, -50).build();
+
+        Player player = new Player("Anna", PlayerToken.DEFAULT);
+        player.setPlayerPosition(104);
+        logic.handlePlayerLanding(player, board);
+
+        assertEquals(List.of("Anna bounced back to 96", "Anna fell down a ladder to 46"), lines);
+        assertSame(GameEventSink.NOOP, GameEvents.sink());
+    }
+}
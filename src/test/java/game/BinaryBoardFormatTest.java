@@ -0,0 +1,92 @@
+package game;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import modell.exceptions.BoardLoadException;
+import modell.gameboard.BinaryBoardFormat;
+import modell.gameboard.BoardConfig;
+import modell.gameboard.LadderGameBoardFactory;
+import modell.tiles.LadderTileLogic;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for BinaryBoardFormat functionality.
+ * Tests encoding, memory-mapped loading, conversion from JSON and corruption checks.
+ */
+class BinaryBoardFormatTest {
+
+    /**
+     * Tests that a board survives encoding and decoding with its tiles sorted.
+     */
+    @Test
+    void testEncodeAndDecode() throws IOException {
+        BoardConfig config = new BoardConfig();
+        config.setBoardSize(1000);
+        config.setSpecialTiles(new int[] {900, 3, 500, 8}, new int[] {-899, 7, 400, -6}, 4);
+
+        byte[] encoded = BinaryBoardFormat.encode(config);
+        BoardConfig decoded = BinaryBoardFormat.decode(ByteBuffer.wrap(encoded));
+
+        assertEquals(1000, decoded.getBoardSize());
+        assertArrayEquals(new int[] {3, 8, 500, 900}, decoded.getTileNumbers());
+        assertArrayEquals(new int[] {7, -6, 400, -899}, decoded.getSpecialValues());
+        assertEquals(config.getTileConfigs(), decoded.getTileConfigs());
+        assertTrue(encoded.length < BinaryBoardFormat.HEADER_SIZE + 4 + 4 * 4);
+    }
+
+    /**
+     * Tests that a converted JSON board loads through a mapped file into the same board.
+     */
+    @Test
+    void testConvertAndLoad() throws Exception {
+        Path json = Files.createTempFile("board-", ".json");
+        Path binary = Files.createTempFile("board-", BinaryBoardFormat.EXTENSION);
+        try {
+            Files.writeString(json, "{\"boardSize\": 10, \"specialTiles\": ["
+                    + "{\"tileNumber\": 8, \"specialValue\": -6},"
+                    + "{\"tileNumber\": 3, \"specialValue\": 7}]}");
+
+            BinaryBoardFormat.convert(json, binary);
+            BoardConfig loaded = BinaryBoardFormat.load(binary);
+
+            assertEquals(10, loaded.getBoardSize());
+            assertEquals(Map.of(3, 7, 8, -6), loaded.getTileConfigs());
+            LadderTileLogic logic = new LadderGameBoardFactory().createBoard(loaded);
+            assertEquals(10, logic.resolveLanding(3));
+            assertEquals(2, logic.resolveLanding(8));
+        } finally {
+            Files.deleteIfExists(json);
+            Files.deleteIfExists(binary);
+        }
+    }
+
+    /**
+     * Tests that damaged, truncated and foreign data is rejected.
+     */
+    @Test
+    void testRejectsCorruptData() throws Exception {
+        BoardConfig config = new BoardConfig();
+        config.setBoardSize(10);
+        config.setTileConfigs(Map.of(3, 7));
+        byte[] encoded = BinaryBoardFormat.encode(config);
+
+        byte[] flipped = encoded.clone();
+        flipped[BinaryBoardFormat.HEADER_SIZE] ^= 1;
+        assertThrows(IOException.class, () -> BinaryBoardFormat.decode(ByteBuffer.wrap(flipped)));
+        assertThrows(IOException.class, () -> BinaryBoardFormat.decode(
+                ByteBuffer.wrap(encoded, 0, encoded.length - 1)));
+        assertThrows(IOException.class, () -> BinaryBoardFormat.decode(
+                ByteBuffer.wrap("{\"boardSize\": 10, \"specialTiles\": []}".getBytes())));
+
+        Path empty = Files.createTempFile("board-", BinaryBoardFormat.EXTENSION);
+        try {
+            assertThrows(BoardLoadException.class, () -> BinaryBoardFormat.load(empty));
+        } finally {
+            Files.deleteIfExists(empty);
+        }
+    }
+}
@@ -35,7 +35,7 @@ class BoardFileSaverTest {
             String content = reader.readLine();
             assertTrue(content.contains("\"boardSize\":100"));
             assertTrue(content.contains("\"tileNumber\":3"));
-            assertTrue(content.contains("\"ladderValue\":7"));
+            assertTrue(content.contains("\"specialValue\":7"));
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,160 @@
+package game;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import modell.events.GameEventSink;
+import modell.exceptions.BoardLoadException;
+import modell.gameboard.BinaryBoardFormat;
+import modell.gameboard.BoardConfig;
+import modell.gameboard.BoardFileSaver;
+import modell.gameboard.BoardRepository;
+import modell.gameboard.GameboardLogic;
+import modell.tiles.LadderTile;
+import modell.tiles.LadderTileLogic;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for BoardRepository functionality.
+ * Tests lookup, caching by modification time, watched directories and reading saved and
+ * binary boards.
+ */
+class BoardRepositoryTest {
+
+    /**
+     * Tests that boards are cached and only a file with a new modification time is read
+     * again.
+     */
+    @Test
+    void testReloadsOnlyChangedFiles() throws Exception {
+        Path directory = Files.createTempDirectory("boards-");
+        Path changing = directory.resolve("changing.json");
+        Path stable = directory.resolve("stable.json");
+        BoardRepository repository = new BoardRepository(GameEventSink.NOOP);
+        try {
+            Files.writeString(changing, board(3, 7));
+            Files.writeString(stable, board(8, -6));
+
+            LadderTileLogic first = repository.getBoard(changing.toString());
+            LadderTileLogic other = repository.getBoard(stable.toString());
+            assertSame(first, repository.getBoard(changing.toString()));
+            assertTrue(first.isFrozen());
+            assertEquals(2, repository.getLoadCount());
+
+            Files.writeString(changing, board(4, 5));
+            Files.setLastModifiedTime(changing, FileTime.fromMillis(
+                    Files.getLastModifiedTime(changing).toMillis() + 2_000));
+
+            LadderTileLogic reloaded = repository.getBoard(changing.toString());
+            assertNotSame(first, reloaded);
+            assertEquals(9, reloaded.resolveLanding(4));
+            assertSame(other, repository.getBoard(stable.toString()));
+            assertEquals(3, repository.getLoadCount());
+        } finally {
+            Files.deleteIfExists(changing);
+            Files.deleteIfExists(stable);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    /**
+     * Tests that the directory watcher drops a changed board from the cache even when its
+     * modification time and size stay the same, and that the board is read again only by
+     * the next request.
+     */
+    @Test
+    void testWatcherDropsChangedBoards() throws Exception {
+        Path directory = Files.createTempDirectory("boards-");
+        Path changing = directory.resolve("changing.json");
+        Path stable = directory.resolve("stable.json");
+        try (BoardRepository repository = new BoardRepository(GameEventSink.NOOP)) {
+            Files.writeString(changing, board(3, 7));
+            Files.writeString(stable, board(8, -6));
+            repository.addDirectory(directory);
+
+            LadderTileLogic first = repository.getBoard("changing.json");
+            LadderTileLogic other = repository.getBoard("stable.json");
+            assertEquals(2, repository.getLoadCount());
+
+            FileTime modified = Files.getLastModifiedTime(changing);
+            Files.writeString(changing, board(4, 5));
+            Files.setLastModifiedTime(changing, modified);
+
+            // Served from the cache until the watcher has seen the change
+            LadderTileLogic reloaded = first;
+            long deadline = System.nanoTime() + 30_000_000_000L;
+            while (reloaded == first && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+                reloaded = repository.getBoard("changing.json");
+            }
+            assertNotSame(first, reloaded, "Watcher did not report the change");
+            assertEquals(9, reloaded.resolveLanding(4));
+            assertEquals(3, repository.getLoadCount());
+            assertSame(other, repository.getBoard("stable.json"));
+            assertEquals(3, repository.getLoadCount());
+        } finally {
+            Files.deleteIfExists(changing);
+            Files.deleteIfExists(stable);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    /**
+     * Tests that a board written by the saver and its binary conversion load the same way.
+     */
+    @Test
+    void testLoadsSavedAndBinaryBoards() throws Exception {
+        Path json = Files.createTempFile("saved-", ".json");
+        Path binary = Files.createTempFile("saved-", BinaryBoardFormat.EXTENSION);
+        try {
+            LadderTileLogic tiles = new LadderTileLogic();
+            for (int i = 1; i <= 100; i++) {
+                tiles.addTile(new LadderTile(i, 0));
+            }
+            tiles.addLadder(3, 7);
+            BoardFileSaver.saveBoard(new GameboardLogic(), tiles, json.toString());
+            BinaryBoardFormat.convert(json, binary);
+
+            BoardRepository repository = new BoardRepository(GameEventSink.NOOP);
+            BoardConfig fromJson = repository.loadConfig(json.toString());
+            BoardConfig fromBinary = repository.loadConfig(binary.toString());
+            assertEquals(100, fromJson.getBoardSize());
+            assertEquals(Map.of(3, 7), fromJson.getTileConfigs());
+            assertEquals(fromJson.getTileConfigs(), fromBinary.getTileConfigs());
+
+            BoardConfig uncached = repository.readConfig(json.toString());
+            assertNotSame(fromJson, uncached);
+            assertEquals(fromJson.getTileConfigs(), uncached.getTileConfigs());
+            assertEquals(3, repository.getLoadCount());
+            repository.loadConfig(json.toString());
+            assertEquals(3, repository.getLoadCount());
+        } finally {
+            Files.deleteIfExists(json);
+            Files.deleteIfExists(binary);
+        }
+    }
+
+    /**
+     * Tests that missing and invalid boards are reported as load errors.
+     */
+    @Test
+    void testRejectsMissingAndInvalidBoards() throws Exception {
+        BoardRepository repository = new BoardRepository(GameEventSink.NOOP);
+        assertThrows(BoardLoadException.class, () -> repository.getBoard("no_such_board.json"));
+
+        Path invalid = Files.createTempFile("invalid-", ".json");
+        try {
+            Files.writeString(invalid, board(8, 7));
+            assertThrows(BoardLoadException.class, () -> repository.getBoard(invalid.toString()));
+        } finally {
+            Files.deleteIfExists(invalid);
+        }
+    }
+
+    private static String board(int tileNumber, int specialValue) {
+        return "{\"boardSize\": 10, \"specialTiles\": [{\"tileNumber\": " + tileNumber
+                + ", \"specialValue\": " + specialValue + "}]}";
+    }
+}
@@ -0,0 +1,62 @@
+package game;
+
+import modell.gameboard.BoardConfig;
+import modell.gameboard.LadderBoardType;
+import modell.gameboard.LadderGameBoardFactory;
+import modell.tiles.LadderTileLogic;
+import modell.tiles.TileLogic;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Map;
+
+/**
+ * Unit tests for LadderGameBoardFactory.
+ */
+class LadderGameBoardFactoryTest {
+
+    /**
+     * Tests that every predefined board type builds a valid 100-tile board.
+     */
+    @Test
+    void testCreateAllBoardTypes() {
+        LadderGameBoardFactory factory = new LadderGameBoardFactory();
+        for (LadderBoardType type : LadderBoardType.values()) {
+            TileLogic logic = factory.createBoard(type, null);
+            assertEquals(100, logic.getBoardSize(), type.name());
+            assertFalse(((LadderTileLogic) logic).getLadderMap().isEmpty(), type.name());
+        }
+    }
+
+    /**
+     * Tests creating a board from a loaded board configuration.
+     */
+    @Test
+    void testCreateBoardFromConfig() {
+        BoardConfig config = new BoardConfig();
+        config.setBoardSize(10);
+        config.setTileConfigs(Map.of(3, 7, 8, -6));
+
+        LadderTileLogic logic = new LadderGameBoardFactory().createBoard(config);
+        assertEquals(10, logic.getBoardSize());
+        assertEquals(10, logic.resolveLanding(3));
+        assertEquals(2, logic.resolveLanding(8));
+    }
+
+    /**
+     * Tests that boards of the same type are built once and shared as frozen templates.
+     */
+    @Test
+    void testCreateBoardReturnsSharedTemplate() {
+        LadderGameBoardFactory.clearTemplates();
+        TileLogic first = new LadderGameBoardFactory().createBoard(LadderBoardType.STANDARD, null);
+        TileLogic second = new LadderGameBoardFactory().createBoard(LadderBoardType.STANDARD, null);
+        TileLogic other = new LadderGameBoardFactory().createBoard(LadderBoardType.ONLY_UP, null);
+
+        assertSame(first, second);
+        assertNotSame(first, other);
+        assertTrue(first.isFrozen());
+
+        LadderGameBoardFactory.clearTemplates();
+        assertNotSame(first, new LadderGameBoardFactory().createBoard(LadderBoardType.STANDARD, null));
+    }
+}
\ No newline at end of file
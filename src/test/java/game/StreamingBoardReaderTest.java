@@ -0,0 +1,79 @@
+package game;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map;
+import modell.gameboard.BoardConfig;
+import modell.gameboard.LadderGameBoardFactory;
+import modell.gameboard.StreamingBoardReader;
+import modell.tiles.LadderTileLogic;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for StreamingBoardReader functionality.
+ * Tests reading board files token by token into board configurations.
+ */
+class StreamingBoardReaderTest {
+
+    /**
+     * Tests that keys are read in any order and unknown keys are skipped.
+     */
+    @Test
+    void testReadBoard() throws IOException {
+        String json = "{\"name\": \"test\", \"specialTiles\": ["
+                + "{\"specialValue\": 7, \"tileNumber\": 3, \"note\": [1, 2]},"
+                + "{\"tileNumber\": 8, \"specialValue\": -6}"
+                + "], \"boardSize\": 10}";
+
+        BoardConfig config = StreamingBoardReader.read(new StringReader(json));
+
+        assertEquals(10, config.getBoardSize());
+        assertEquals(2, config.getSpecialTileCount());
+        assertArrayEquals(new int[] {3, 8}, config.getTileNumbers());
+        assertArrayEquals(new int[] {7, -6}, config.getSpecialValues());
+        assertEquals(Map.of(3, 7, 8, -6), config.getTileConfigs());
+
+        LadderTileLogic logic = new LadderGameBoardFactory().createBoard(config);
+        assertEquals(10, logic.resolveLanding(3));
+        assertEquals(2, logic.resolveLanding(8));
+    }
+
+    /**
+     * Tests that a board with many special tiles grows the arrays and keeps their order.
+     */
+    @Test
+    void testReadManySpecialTiles() throws IOException {
+        StringBuilder json = new StringBuilder("{\"boardSize\": 1000, \"specialTiles\": [");
+        for (int tile = 2; tile < 1000; tile += 2) {
+            json.append(tile == 2 ? "" : ",")
+                    .append("{\"tileNumber\": ").append(tile).append(", \"specialValue\": 1}");
+        }
+        json.append("]}");
+
+        BoardConfig config = StreamingBoardReader.read(new StringReader(json.toString()));
+
+        assertEquals(499, config.getSpecialTileCount());
+        assertEquals(998, config.getTileNumbers()[498]);
+        LadderTileLogic logic = new LadderGameBoardFactory().createBoard(config);
+        assertEquals(499, logic.getLadderMap().size());
+    }
+
+    /**
+     * Tests that missing special tiles are allowed and missing fields are rejected.
+     */
+    @Test
+    void testMissingFields() throws IOException {
+        BoardConfig empty = StreamingBoardReader.read(
+                new StringReader("{\"boardSize\": 5, \"specialTiles\": null}"));
+        assertEquals(0, empty.getSpecialTileCount());
+        assertEquals(5, new LadderGameBoardFactory().createBoard(empty).getBoardSize());
+
+        assertThrows(IllegalArgumentException.class, () -> StreamingBoardReader.read(
+                new StringReader("{\"specialTiles\": []}")));
+        assertThrows(IllegalArgumentException.class, () -> StreamingBoardReader.read(
+                new StringReader("{\"boardSize\": 10, \"specialTiles\": [{\"tileNumber\": 3}]}")));
+        assertThrows(IOException.class, () -> StreamingBoardReader.read(
+                new StringReader("{\"boardSize\": 10, \"specialTiles\": [")));
+    }
+}
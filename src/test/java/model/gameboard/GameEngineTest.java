@@ -0,0 +1,177 @@
+package model.gameboard;
+
+import modell.dice.DiceSet;
+import modell.gameboard.GameEngine;
+import modell.gameboard.GameEventListener;
+import modell.gameboard.GamePhase;
+import modell.players.Player;
+import modell.players.PlayerToken;
+import modell.tiles.CompositeTileLogic;
+import modell.tiles.LadderBoardBuilder;
+import modell.tiles.TileEffect;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for GameEngine functionality.
+ * Tests turn order, special tiles and win detection without a user interface.
+ */
+class GameEngineTest {
+    private Player player1;
+    private Player player2;
+    private List<Player> players;
+
+    @BeforeEach
+    void setUp() {
+        player1 = new Player("Player 1", PlayerToken.DEFAULT);
+        player2 = new Player("Player 2", PlayerToken.DEFAULT);
+        players = List.of(player1, player2);
+    }
+
+    /**
+     * Creates a board where every square reachable with the first roll of two dice
+     * has the given effect.
+     */
+    private CompositeTileLogic createBoard(TileEffect effect) {
+        CompositeTileLogic logic = new CompositeTileLogic();
+        logic.fillPlainTiles(100);
+        for (int tile = 2; tile <= 12; tile++) {
+            if (effect == TileEffect.EXTRA_THROW) {
+                logic.addExtraThrowTile(tile);
+            } else {
+                logic.addSkipNextTurnTile(tile);
+            }
+        }
+        return logic;
+    }
+
+    /**
+     * Tests that a whole game can be played headlessly and ends on the last tile.
+     */
+    @Test
+    void testPlayToEnd() {
+        GameEngine engine = new GameEngine(
+            new LadderBoardBuilder(30).addLadder(3, 10).addLadder(25, -20).build(),
+            players, new DiceSet(2));
+
+        Player winner = engine.playToEnd(100_000);
+
+        assertNotNull(winner);
+        assertTrue(engine.isFinished());
+        assertEquals(30, winner.getPlayerPosition());
+        assertEquals(winner, engine.getStandings().get(0));
+        assertEquals(2, engine.getStandings().size());
+        assertThrows(IllegalStateException.class, engine::rollDice);
+    }
+
+    /**
+     * Tests that turns pass to the next player after a plain square.
+     */
+    @Test
+    void testTurnOrder() {
+        GameEngine engine = new GameEngine(
+            new LadderBoardBuilder(100).build(), players, new DiceSet(2));
+
+        assertSame(player1, engine.getCurrentPlayer());
+        engine.playTurn();
+        assertSame(player2, engine.getCurrentPlayer());
+        engine.playTurn();
+        assertSame(player1, engine.getCurrentPlayer());
+        assertEquals(2, engine.getTurnCount());
+    }
+
+    /**
+     * Tests that phases must be played in order.
+     */
+    @Test
+    void testPhaseOrder() {
+        GameEngine engine = new GameEngine(
+            new LadderBoardBuilder(100).build(), players, new DiceSet(2));
+
+        assertThrows(IllegalStateException.class, engine::movePlayer);
+        int roll = engine.rollDice();
+        assertEquals(GamePhase.MOVE_PLAYER, engine.getPhase());
+        assertThrows(IllegalStateException.class, engine::applySpecialTile);
+        assertEquals(roll, engine.movePlayer());
+        assertEquals(GamePhase.SPECIAL_TILE, engine.getPhase());
+        engine.applySpecialTile();
+        assertEquals(GamePhase.IDLE, engine.getPhase());
+    }
+
+    /**
+     * Tests that an extra-throw square keeps the turn with the same player.
+     */
+    @Test
+    void testExtraThrow() {
+        GameEngine engine = new GameEngine(
+            createBoard(TileEffect.EXTRA_THROW), players, new DiceSet(2));
+
+        assertEquals(TileEffect.EXTRA_THROW, engine.playTurn());
+        assertSame(player1, engine.getCurrentPlayer());
+    }
+
+    /**
+     * Tests that a skip-next-turn square makes the player sit out their next turn.
+     */
+    @Test
+    void testSkipNextTurn() {
+        GameEngine engine = new GameEngine(
+            createBoard(TileEffect.SKIP_NEXT_TURN), players, new DiceSet(2));
+        int[] skipped = new int[1];
+        engine.addListener(new GameEventListener() {
+            @Override
+            public void onTurnSkipped(Player player) {
+                skipped[0]++;
+            }
+        });
+
+        assertEquals(TileEffect.SKIP_NEXT_TURN, engine.playTurn());
+        assertSame(player2, engine.getCurrentPlayer());
+        assertEquals(TileEffect.SKIP_NEXT_TURN, engine.playTurn());
+
+        assertEquals(2, skipped[0]);
+        assertSame(player1, engine.getCurrentPlayer());
+    }
+
+    /**
+     * Tests that listeners receive the events of a turn.
+     */
+    @Test
+    void testListenerEvents() {
+        GameEngine engine = new GameEngine(
+            new LadderBoardBuilder(100).build(), players, new DiceSet(2));
+        int[] events = new int[3];
+        engine.addListener(new GameEventListener() {
+            @Override
+            public void onDiceRolled(Player player, int total) {
+                events[0] = total;
+            }
+
+            @Override
+            public void onPlayerMoved(Player player, int fromTile, int toTile) {
+                events[1] = toTile;
+            }
+
+            @Override
+            public void onTurnStarted(Player player, int seat) {
+                events[2] = seat;
+            }
+        });
+
+        engine.playTurn();
+
+        assertEquals(events[0], events[1]);
+        assertEquals(1, events[2]);
+    }
+
+    /**
+     * Tests that a game cannot be created without players.
+     */
+    @Test
+    void testRequiresPlayers() {
+        assertThrows(IllegalArgumentException.class, () ->
+            new GameEngine(new LadderBoardBuilder(100).build(), List.of(), new DiceSet(2)));
+    }
+}
@@ -0,0 +1,130 @@
+package phases;
+
+import controller.controllers.GamePhaseController;
+import controller.diagnostics.PhaseMetrics;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import modell.gameboard.GamePhase;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for GamePhaseController functionality.
+ * Tests the phase queue, the split of model work and rendering, prefetching and failures.
+ */
+class GamePhaseControllerTest {
+
+    /**
+     * Tests that a long chain of phases that finish at once does not nest on the stack.
+     */
+    @Test
+    void testImmediatePhasesDoNotRecurse() {
+        GamePhaseController controller = new GamePhaseController(new PhaseMetrics(false));
+        int[] turns = {0};
+        controller.registerPhaseAction(GamePhase.IDLE, () -> {
+            if (++turns[0] < 100_000) {
+                controller.nextPhase();
+            }
+        });
+        controller.registerPhase(GamePhase.ROLL_DICE, () -> 7, (roll, done) -> done.run());
+        controller.registerPhaseAction(GamePhase.MOVE_PLAYER, controller::nextPhase);
+        controller.registerPhaseAction(GamePhase.SPECIAL_TILE, controller::nextPhase);
+
+        controller.startPhase();
+
+        assertEquals(100_000, turns[0]);
+        assertEquals(GamePhase.IDLE, controller.getCurrentPhase());
+    }
+
+    /**
+     * Tests that model work runs on the model executor, rendering on the UI executor, and
+     * that the next phase's model work starts before the current phase is rendered.
+     */
+    @Test
+    void testModelWorkIsPrefetched() {
+        Queue<Runnable> modelTasks = new ArrayDeque<>();
+        Queue<Runnable> uiTasks = new ArrayDeque<>();
+        Executor model = modelTasks::add;
+        Executor ui = uiTasks::add;
+        GamePhaseController controller =
+                new GamePhaseController(new PhaseMetrics(false), model, ui);
+        List<String> steps = new ArrayList<>();
+        List<Runnable> pending = new ArrayList<>();
+
+        controller.registerPhase(GamePhase.ROLL_DICE, () -> {
+            steps.add("model roll");
+            return 5;
+        }, (roll, done) -> {
+            steps.add("render roll " + roll);
+            pending.add(done);
+        });
+        controller.registerPhase(GamePhase.MOVE_PLAYER, () -> {
+            steps.add("model move");
+            return 12;
+        }, (tile, done) -> steps.add("render move " + tile));
+
+        controller.nextPhase();
+        assertTrue(steps.isEmpty());
+        assertEquals(1, modelTasks.size());
+
+        modelTasks.poll().run();
+        assertEquals(List.of("model roll"), steps);
+        assertEquals(1, uiTasks.size());
+
+        uiTasks.poll().run();
+        assertEquals(List.of("model roll", "render roll 5"), steps);
+        assertEquals(1, modelTasks.size());
+
+        modelTasks.poll().run();
+        pending.get(0).run();
+        assertEquals(List.of("model roll", "render roll 5", "model move", "render move 12"),
+                steps);
+        assertTrue(modelTasks.isEmpty());
+        assertEquals(GamePhase.MOVE_PLAYER, controller.getCurrentPhase());
+    }
+
+    /**
+     * Tests that a failing model step is reported when its phase is rendered.
+     */
+    @Test
+    void testFailedModelWorkThrows() {
+        GamePhaseController controller = new GamePhaseController(new PhaseMetrics(false));
+        controller.registerPhase(GamePhase.ROLL_DICE, () -> {
+            throw new IllegalArgumentException("broken dice");
+        }, (roll, done) -> fail("Rendering should not run"));
+
+        IllegalStateException error =
+                assertThrows(IllegalStateException.class, controller::nextPhase);
+        assertInstanceOf(IllegalArgumentException.class, error.getCause());
+    }
+
+    /**
+     * Tests that a failing model step is reported to the error handler, which can start
+     * the game again from the idle phase.
+     */
+    @Test
+    void testFailedModelWorkIsReported() {
+        GamePhaseController controller = new GamePhaseController(new PhaseMetrics(false));
+        List<String> steps = new ArrayList<>();
+        boolean[] broken = {true};
+        controller.setErrorHandler((phase, cause) ->
+                steps.add(phase + " failed: " + cause.getMessage()));
+        controller.registerPhase(GamePhase.ROLL_DICE, () -> {
+            if (broken[0]) {
+                throw new IllegalArgumentException("broken dice");
+            }
+            return 4;
+        }, (roll, done) -> steps.add("render roll " + roll));
+
+        controller.nextPhase();
+        assertEquals(List.of("ROLL_DICE failed: broken dice"), steps);
+        assertEquals(GamePhase.IDLE, controller.getCurrentPhase());
+
+        broken[0] = false;
+        controller.nextPhase();
+        assertEquals(List.of("ROLL_DICE failed: broken dice", "render roll 4"), steps);
+    }
+}
@@ -0,0 +1,67 @@
+package players;
+
+import java.util.List;
+import modell.players.Player;
+import modell.players.PlayerStore;
+import modell.players.PlayerToken;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for PlayerStore functionality.
+ * Tests the primitive player state and materializing player objects from it.
+ */
+class PlayerStoreTest {
+
+    /**
+     * Tests moving seats, flags and counters, and resetting them.
+     */
+    @Test
+    void testMoveAndReset() {
+        PlayerStore store = new PlayerStore(3);
+        assertEquals(3, store.size());
+        assertEquals(7, store.moveBy(1, 7));
+        assertEquals(12, store.moveBy(1, 5));
+        store.moveTo(2, 40);
+        store.setSkipNextTurn(0, true);
+        store.countTurn(1);
+        assertEquals(2, store.countTurn(1));
+
+        assertEquals(12, store.getPosition(1));
+        assertEquals(40, store.getPosition(2));
+        assertTrue(store.isSkippingNextTurn(0));
+
+        store.reset();
+        assertEquals(0, store.getPosition(1));
+        assertFalse(store.isSkippingNextTurn(0));
+        assertEquals(0, store.getTurns(1));
+    }
+
+    /**
+     * Tests that players are materialized with the names and positions of their seats.
+     */
+    @Test
+    void testToPlayers() {
+        Player anna = new Player("Anna", PlayerToken.DEFAULT);
+        anna.setPlayerPosition(9);
+        PlayerStore store = PlayerStore.of(List.of(anna, new Player("Ola", PlayerToken.DEFAULT)));
+        store.moveBy(1, 4);
+
+        List<Player> players = store.toPlayers();
+        assertEquals("Anna", players.get(0).getName());
+        assertEquals(9, players.get(0).getPlayerPosition());
+        assertEquals("Ola", players.get(1).getName());
+        assertEquals(4, players.get(1).getPlayerPosition());
+        assertEquals("Player 2", new PlayerStore(2).toPlayer(1).getName());
+    }
+
+    /**
+     * Tests that invalid stores are rejected.
+     */
+    @Test
+    void testInvalidStore() {
+        assertThrows(IllegalArgumentException.class, () -> new PlayerStore(0));
+        assertThrows(IllegalArgumentException.class, () -> new PlayerStore(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new PlayerStore(List.of(" ")));
+    }
+}
@@ -0,0 +1,100 @@
+package simulation;
+
+import modell.dice.DiceSet;
+import modell.gameboard.LadderBoardType;
+import modell.gameboard.LadderGameBoardFactory;
+import modell.simulation.MarkovAnalysis;
+import modell.simulation.MarkovChainAnalyzer;
+import modell.simulation.MonteCarloSimulator;
+import modell.simulation.SimulationResult;
+import modell.tiles.LadderBoardBuilder;
+import modell.tiles.LadderTileLogic;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for MarkovChainAnalyzer functionality.
+ * Tests exact results on small boards and agreement with simulated games.
+ */
+class MarkovChainAnalyzerTest {
+
+    /**
+     * Tests a board where every turn finishes with probability 1/6 because of bounce-back.
+     */
+    @Test
+    void testGeometricBoard() {
+        LadderTileLogic board = new LadderBoardBuilder(6).build();
+        MarkovAnalysis analysis = new MarkovChainAnalyzer(board, new DiceSet(1)).analyze();
+
+        assertEquals(6.0, analysis.getExpectedTurns(), 1e-9);
+        assertEquals(1.0 / 6, analysis.getTurnProbability(1), 1e-12);
+        assertEquals(5.0 / 36, analysis.getTurnProbability(2), 1e-12);
+        assertEquals(1.0, analysis.getCumulativeProbability(10_000), 1e-9);
+        assertTrue(analysis.getTruncatedMass() < 1e-11);
+    }
+
+    /**
+     * Tests that a ladder straight to the last tile is taken into account.
+     */
+    @Test
+    void testLadderToLastTile() {
+        LadderTileLogic board = new LadderBoardBuilder(6).addLadder(1, 5).build();
+        MarkovAnalysis analysis = new MarkovChainAnalyzer(board, new DiceSet(1)).analyze();
+
+        assertEquals(2.0 / 6, analysis.getTurnProbability(1), 1e-12);
+        assertEquals(0, analysis.getExpectedVisits(1), 1e-12);
+        assertEquals(0, analysis.getExpectedTurnsFrom(6), 1e-12);
+    }
+
+    /**
+     * Tests that the expected turns agree with simulated single-player games.
+     */
+    @Test
+    void testAgreesWithSimulation() {
+        LadderTileLogic board = new LadderGameBoardFactory().getTemplate(LadderBoardType.STANDARD);
+        MarkovAnalysis analysis = new MarkovChainAnalyzer(board, new DiceSet(2)).analyze();
+        SimulationResult result = new MonteCarloSimulator(board, 1, 2).run(50_000);
+
+        double expected = analysis.getExpectedTurns();
+        assertEquals(expected, result.getMeanTurns(), expected * 0.03);
+
+        double[] distribution = analysis.getTurnDistribution();
+        double total = 0;
+        for (double probability : distribution) {
+            total += probability;
+        }
+        assertEquals(1.0, total, 1e-9);
+        assertEquals(1.0, analysis.getExpectedVisits(100), 1e-9);
+    }
+
+    /**
+     * Tests that a 1000-tile board is analyzed into a complete turn distribution.
+     */
+    @Test
+    void testLargeBoard() {
+        LadderBoardBuilder builder = new LadderBoardBuilder(1000);
+        for (int tile = 10; tile < 960; tile += 37) {
+            builder.addLadder(tile, tile % 2 == 0 ? 30 : -9);
+        }
+        LadderTileLogic board = builder.build();
+
+        MarkovAnalysis analysis = new MarkovChainAnalyzer(board, new DiceSet(2)).analyze();
+
+        double total = analysis.getTruncatedMass();
+        for (double probability : analysis.getTurnDistribution()) {
+            total += probability;
+        }
+        assertTrue(analysis.getExpectedTurns() > 1000.0 / 12);
+        assertEquals(1.0, total, 1e-9);
+    }
+
+    /**
+     * Tests that boards too small for the dice are rejected.
+     */
+    @Test
+    void testBoardTooSmall() {
+        LadderTileLogic board = new LadderBoardBuilder(5).build();
+        assertThrows(IllegalArgumentException.class,
+            () -> new MarkovChainAnalyzer(board, new DiceSet(2)));
+    }
+}
@@ -0,0 +1,147 @@
+package simulation;
+
+import modell.dice.DiceSet;
+import modell.dice.RandomSource;
+import modell.gameboard.GameEngine;
+import modell.gameboard.LadderBoardType;
+import modell.gameboard.LadderGameBoardFactory;
+import modell.players.Player;
+import modell.players.PlayerToken;
+import modell.simulation.MonteCarloSimulator;
+import modell.simulation.SimulationResult;
+import modell.tiles.CompositeTileLogic;
+import modell.tiles.LadderBoardBuilder;
+import modell.tiles.LadderTileLogic;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for MonteCarloSimulator functionality.
+ * Tests that the merged statistics of parallel batches are consistent.
+ */
+class MonteCarloSimulatorTest {
+
+    /**
+     * Tests that every game is counted once and the statistics add up.
+     */
+    @Test
+    void testStatisticsAddUp() {
+        LadderTileLogic board = new LadderGameBoardFactory().getTemplate(LadderBoardType.STANDARD);
+        SimulationResult result = new MonteCarloSimulator(board, 3, 2).run(20_000);
+
+        assertEquals(20_000, result.getGames());
+        assertEquals(0, result.getUnfinishedGames());
+
+        double winRates = 0;
+        for (int seat = 0; seat < result.getPlayerCount(); seat++) {
+            winRates += result.getWinRate(seat);
+        }
+        assertEquals(1.0, winRates, 1e-9);
+
+        long counted = 0;
+        double probability = 0;
+        double[] distribution = result.getLengthDistribution();
+        for (int turns = 0; turns < distribution.length; turns++) {
+            counted += result.getLengthCount(turns);
+            probability += distribution[turns];
+        }
+        assertEquals(20_000, counted);
+        assertEquals(1.0, probability, 1e-9);
+        assertTrue(result.getMeanTurns() > 0);
+        assertTrue(result.getGamesPerSecond() > 0);
+    }
+
+    /**
+     * Tests that the length percentiles are ordered and within the observed lengths.
+     */
+    @Test
+    void testLengthPercentiles() {
+        LadderTileLogic board = new LadderBoardBuilder(40).addLadder(2, 20).build().freeze();
+        SimulationResult result = new MonteCarloSimulator(board, 2, 2).run(10_000);
+
+        int median = result.getLengthPercentile(0.5);
+        int p99 = result.getLengthPercentile(0.99);
+        assertTrue(median > 0);
+        assertTrue(median <= p99);
+        assertTrue(result.getLengthCount(p99) > 0);
+    }
+
+    /**
+     * Tests that games hitting the turn limit are reported as unfinished.
+     */
+    @Test
+    void testTurnLimit() {
+        LadderTileLogic board = new LadderBoardBuilder(100).build();
+        SimulationResult result = new MonteCarloSimulator(board, 2, 1, 5, new ForkJoinPool(2))
+            .run(1_000);
+
+        assertEquals(1_000, result.getUnfinishedGames());
+        assertEquals(0, result.getWinRate(0));
+        assertEquals(0, result.getMeanTurns());
+    }
+
+    /**
+     * Tests that invalid simulator settings are rejected.
+     */
+    @Test
+    void testInvalidSettings() {
+        LadderTileLogic board = new LadderBoardBuilder(100).build();
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloSimulator(board, 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloSimulator(board, 2, 11));
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloSimulator(null, 2, 2));
+    }
+
+    /**
+     * Tests that a seeded simulation gives the same statistics on every run.
+     */
+    @Test
+    void testSeededSimulationIsReproducible() {
+        LadderTileLogic board = new LadderGameBoardFactory().getTemplate(LadderBoardType.STANDARD);
+        SimulationResult first = new MonteCarloSimulator(board, 2, 2,
+            MonteCarloSimulator.DEFAULT_MAX_TURNS, ForkJoinPool.commonPool(),
+            RandomSource.seeded(11)).run(20_000);
+        SimulationResult second = new MonteCarloSimulator(board, 2, 2,
+            MonteCarloSimulator.DEFAULT_MAX_TURNS, new ForkJoinPool(3),
+            RandomSource.seeded(11)).run(20_000);
+
+        assertEquals(first.getMeanTurns(), second.getMeanTurns());
+        assertEquals(first.getWinRate(0), second.getWinRate(0));
+        assertArrayEquals(first.getLengthDistribution(), second.getLengthDistribution());
+    }
+
+    /**
+     * Tests that the lockstep batches agree with games played one at a time by the engine,
+     * on a board with every kind of special tile.
+     */
+    @Test
+    void testMatchesSingleGames() {
+        CompositeTileLogic board = new CompositeTileLogic();
+        board.fillPlainTiles(60);
+        board.addLadder(4, 20);
+        board.addLadder(45, -30);
+        board.addExtraThrowTile(9);
+        board.addSkipNextTurnTile(17);
+        SimulationResult result = new MonteCarloSimulator(board, 3, 2,
+            MonteCarloSimulator.DEFAULT_MAX_TURNS, ForkJoinPool.commonPool(),
+            RandomSource.seeded(5)).run(100_000);
+
+        DiceSet dice = new DiceSet(2, RandomSource.seeded(6));
+        int games = 100_000;
+        long turns = 0;
+        long firstSeatWins = 0;
+        for (int i = 0; i < games; i++) {
+            List<Player> players = List.of(new Player("A", PlayerToken.DEFAULT),
+                new Player("B", PlayerToken.DEFAULT), new Player("C", PlayerToken.DEFAULT));
+            GameEngine game = new GameEngine(board, players, dice);
+            if (game.playToEnd(MonteCarloSimulator.DEFAULT_MAX_TURNS) == players.get(0)) {
+                firstSeatWins++;
+            }
+            turns += game.getTurnCount();
+        }
+
+        assertEquals((double) turns / games, result.getMeanTurns(), 0.02 * turns / games);
+        assertEquals((double) firstSeatWins / games, result.getWinRate(0), 0.01);
+    }
+}
@@ -0,0 +1,160 @@
+package tiles;
+
+import modell.gameboard.Gameboard;
+import modell.players.Player;
+import modell.players.PlayerToken;
+import modell.tiles.CompositeTileLogic;
+import modell.tiles.ExtraThrowTileLogic;
+import modell.tiles.TileEffect;
+import modell.tiles.TileEngine;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Map;
+
+/**
+ * Test class for CompositeTileLogic and the TileEngine it resolves landings with.
+ * Tests mixing effects on one board and resolving landings in one lookup.
+ */
+class CompositeTileLogicTest {
+
+    private CompositeTileLogic createBoard() {
+        CompositeTileLogic logic = new CompositeTileLogic();
+        logic.fillPlainTiles(100);
+        logic.addLadder(5, 10);
+        logic.addLadder(40, -20);
+        logic.addExtraThrowTile(8);
+        logic.addSkipNextTurnTile(20);
+        return logic;
+    }
+
+    /**
+     * Tests that every kind of effect is resolved by a single landing lookup.
+     */
+    @Test
+    void testLandResolvesAllEffects() {
+        TileEngine engine = createBoard().getTileEngine();
+
+        int ladder = engine.land(5);
+        assertEquals(15, TileEngine.destination(ladder));
+        assertEquals(TileEffect.LADDER, TileEngine.effect(ladder));
+
+        int snake = engine.land(40);
+        assertEquals(20, TileEngine.destination(snake));
+        assertEquals(TileEffect.LADDER, TileEngine.effect(snake));
+
+        int extraThrow = engine.land(8);
+        assertEquals(8, TileEngine.destination(extraThrow));
+        assertEquals(TileEffect.EXTRA_THROW, TileEngine.effect(extraThrow));
+
+        int skip = engine.land(20);
+        assertEquals(20, TileEngine.destination(skip));
+        assertEquals(TileEffect.SKIP_NEXT_TURN, TileEngine.effect(skip));
+
+        int plain = engine.land(7);
+        assertEquals(7, TileEngine.destination(plain));
+        assertEquals(TileEffect.PLAIN, TileEngine.effect(plain));
+    }
+
+    /**
+     * Tests that overshoot bounces back before the square's effect is applied.
+     */
+    @Test
+    void testLandBouncesBack() {
+        CompositeTileLogic logic = createBoard();
+        logic.addExtraThrowTile(96);
+        int outcome = logic.getTileEngine().land(104);
+
+        assertEquals(96, TileEngine.destination(outcome));
+        assertEquals(TileEffect.EXTRA_THROW, TileEngine.effect(outcome));
+    }
+
+    /**
+     * Tests that a square can only hold one special effect.
+     */
+    @Test
+    void testOneEffectPerSquare() {
+        CompositeTileLogic logic = createBoard();
+
+        assertThrows(IllegalStateException.class, () -> logic.addLadder(8, 5));
+        assertThrows(IllegalStateException.class, () -> logic.addExtraThrowTile(5));
+        assertThrows(IllegalStateException.class, () -> logic.addSkipNextTurnTile(8));
+    }
+
+    /**
+     * Tests that the effect maps list each kind of tile in tile order.
+     */
+    @Test
+    void testEffectMaps() {
+        CompositeTileLogic logic = createBoard();
+        logic.addExtraThrowTile(3);
+
+        assertEquals(Map.of(5, 10, 40, -20), logic.getLadderMap());
+        assertEquals(Map.of(3, 0, 8, 0), logic.getExtraThrowMap());
+        assertEquals(Map.of(20, 0), logic.getSkipNextTurnMap());
+        assertEquals(3, logic.getExtraThrowMap().keySet().iterator().next());
+    }
+
+    /**
+     * Tests that the engine is rebuilt after the board changes.
+     */
+    @Test
+    void testEngineRebuiltAfterChange() {
+        CompositeTileLogic logic = createBoard();
+        TileEngine before = logic.getTileEngine();
+        assertSame(before, logic.getTileEngine());
+
+        logic.addSkipNextTurnTile(30);
+        TileEngine after = logic.getTileEngine();
+
+        assertNotSame(before, after);
+        assertEquals(TileEffect.PLAIN, before.getEffect(30));
+        assertEquals(TileEffect.SKIP_NEXT_TURN, after.getEffect(30));
+    }
+
+    /**
+     * Tests that a frozen composite board keeps every effect and rejects changes.
+     */
+    @Test
+    void testFreeze() {
+        CompositeTileLogic frozen = createBoard().freeze();
+
+        assertEquals(TileEffect.EXTRA_THROW, frozen.getTileEngine().getEffect(8));
+        assertEquals(15, frozen.resolveLanding(5));
+        assertThrows(IllegalStateException.class, () -> frozen.addExtraThrowTile(9));
+    }
+
+    /**
+     * Tests that the game board accepts any tile logic and reports the landing effect.
+     */
+    @Test
+    void testGameboardAcceptsAnyTileLogic() {
+        ExtraThrowTileLogic extraThrowLogic = new ExtraThrowTileLogic();
+        extraThrowLogic.fillPlainTiles(100);
+        extraThrowLogic.addExtraThrowTile(8);
+        Gameboard gameboard = new Gameboard(extraThrowLogic);
+
+        Player player = new Player("Test", PlayerToken.DEFAULT);
+        player.setPlayerPosition(8);
+        TileEffect effect = gameboard.getGameboardLogic()
+            .handlePlayerLanding(player, gameboard.getTileLogic());
+
+        assertEquals(TileEffect.EXTRA_THROW, effect);
+        assertEquals(8, player.getPlayerPosition());
+    }
+
+    /**
+     * Tests that landing on a ladder of a composite board moves the player.
+     */
+    @Test
+    void testGameboardLandingOnLadder() {
+        Gameboard gameboard = new Gameboard(createBoard());
+        Player player = new Player("Test", PlayerToken.DEFAULT);
+        player.setPlayerPosition(40);
+
+        TileEffect effect = gameboard.getGameboardLogic()
+            .handlePlayerLanding(player, gameboard.getTileLogic());
+
+        assertEquals(TileEffect.LADDER, effect);
+        assertEquals(20, player.getPlayerPosition());
+    }
+}
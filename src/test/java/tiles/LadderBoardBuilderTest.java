@@ -0,0 +1,161 @@
+package tiles;
+
+import modell.tiles.LadderBoardBuilder;
+import modell.tiles.LadderTile;
+import modell.tiles.LadderTileLogic;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Test class for LadderBoardBuilder functionality.
+ * Tests bulk board construction and single-pass ladder validation.
+ */
+class LadderBoardBuilderTest {
+
+    /**
+     * Tests that a built board matches a board built one ladder at a time.
+     */
+    @Test
+    void testBuildMatchesIncrementalBoard() {
+        LadderTileLogic incremental = new LadderTileLogic();
+        for (int i = 1; i <= 100; i++) {
+            incremental.addTile(new LadderTile(i, 0));
+        }
+        incremental.addLadder(2, 32);
+        incremental.addLadder(98, -60);
+
+        LadderTileLogic built = new LadderBoardBuilder(100)
+                .addLadder(2, 32)
+                .addLadder(98, -60)
+                .build();
+
+        assertEquals(incremental.getBoardSize(), built.getBoardSize());
+        assertEquals(incremental.getLadderMap(), built.getLadderMap());
+        assertEquals(0, built.getTileByNumber(50).getEffect());
+        assertEquals(34, built.resolveLanding(2));
+    }
+
+    /**
+     * Tests adding a batch of ladders from a map.
+     */
+    @Test
+    void testAddLadders() {
+        LadderTileLogic logic = new LadderBoardBuilder(10)
+                .addLadders(Map.of(3, 5, 7, -3))
+                .build();
+
+        assertEquals(10, logic.getBoardSize());
+        assertEquals(Map.of(3, 5, 7, -3), logic.getLadderMap());
+    }
+
+    /**
+     * Tests that a built board still accepts ladders one at a time.
+     */
+    @Test
+    void testBuiltBoardAcceptsNewLadders() {
+        LadderTileLogic logic = new LadderBoardBuilder(100).addLadder(5, 10).build();
+        assertThrows(IllegalArgumentException.class, () -> logic.addLadder(15, -10));
+        logic.addLadder(20, 5);
+        assertEquals(25, logic.resolveLanding(20));
+    }
+
+    /**
+     * Tests that invalid board sizes are rejected.
+     */
+    @Test
+    void testInvalidBoardSize() {
+        assertThrows(IllegalArgumentException.class, () -> new LadderBoardBuilder(0));
+        assertThrows(IllegalArgumentException.class, () -> new LadderBoardBuilder(1001));
+    }
+
+    /**
+     * Tests that two ladders on the same tile are rejected.
+     */
+    @Test
+    void testDuplicateLadder() {
+        LadderBoardBuilder builder = new LadderBoardBuilder(100)
+                .addLadder(5, 10)
+                .addLadder(5, 15);
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    /**
+     * Tests that ladders starting or ending outside the board are rejected.
+     */
+    @Test
+    void testLadderOutOfBounds() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new LadderBoardBuilder(100).addLadder(101, -10).build());
+        assertThrows(IllegalArgumentException.class,
+                () -> new LadderBoardBuilder(100).addLadder(95, 10).build());
+        assertThrows(IllegalArgumentException.class,
+                () -> new LadderBoardBuilder(100).addLadder(5, -5).build());
+    }
+
+    /**
+     * Tests that ladders exceeding the maximum effect value are rejected.
+     */
+    @Test
+    void testLadderWithLargeEffectValue() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new LadderBoardBuilder(1000).addLadder(5, 101).build());
+    }
+
+    /**
+     * Tests that ladders forming a circular path are rejected.
+     */
+    @Test
+    void testCircularLadders() {
+        LadderBoardBuilder builder = new LadderBoardBuilder(100)
+                .addLadder(5, 10)
+                .addLadder(15, 10)
+                .addLadder(25, -20);
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    /**
+     * Tests that a 1000-tile board stores only its ladders and shares the plain squares.
+     */
+    @Test
+    void testThousandTileBoardFootprint() {
+        LadderTileLogic board = new LadderBoardBuilder(1000)
+                .addLadder(2, 32)
+                .addLadder(98, -60)
+                .addLadder(500, 90)
+                .build();
+
+        assertEquals(1000, board.getBoardSize());
+        for (int tileNumber = 1; tileNumber <= 1000; tileNumber++) {
+            LadderTile tile = (LadderTile) board.getTileByNumber(tileNumber);
+            if (tile.getEffect() == 0) {
+                assertSame(LadderTile.plain(tileNumber), tile);
+            } else {
+                assertNotSame(LadderTile.plain(tileNumber), tile);
+            }
+        }
+
+        TileTable table = new TileTable(board);
+        assertEquals(3, table.storedTiles());
+        assertEquals(501, table.length());
+    }
+
+    /**
+     * Frozen copy of a board that exposes its tile table.
+     */
+    private static final class TileTable extends LadderTileLogic {
+        TileTable(LadderTileLogic source) {
+            super(source);
+        }
+
+        int length() {
+            return tiles.length;
+        }
+
+        long storedTiles() {
+            return Arrays.stream(tiles).filter(Objects::nonNull).count();
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package tiles;
 
+import modell.tiles.LadderBoardBuilder;
+import modell.tiles.LadderSnapshot;
 import modell.tiles.LadderTile;
 import modell.tiles.LadderTileLogic;
 import modell.tiles.Tile;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Test class for LadderTileLogic functionality.
@@ -88,6 +95,38 @@ class LadderTileLogicTest {
         assertThrows(IllegalArgumentException.class, () -> logic.addLadder(25, -20));
     }
 
+    /**
+     * Tests that a ladder with no effect is accepted as a plain tile, both when added
+     * directly and through the board builder.
+     */
+    @Test
+    void testAddZeroLadder() {
+        LadderTileLogic logic = new LadderTileLogic();
+        initializeBoard(logic, 100);
+        logic.addLadder(5, 0);
+        assertEquals(5, logic.resolveLanding(5));
+        logic.addLadder(5, 10);
+        assertEquals(15, logic.resolveLanding(5));
+
+        LadderTileLogic built = new LadderBoardBuilder(100).addLadder(5, 0).build();
+        assertEquals(5, built.resolveLanding(5));
+    }
+
+    /**
+     * Tests adding ladders after the board has grown, including a circular path in the
+     * new part of the board.
+     */
+    @Test
+    void testAddLadderAfterBoardGrows() {
+        LadderTileLogic logic = new LadderTileLogic();
+        logic.fillPlainTiles(100);
+        logic.addLadder(5, 10);
+        logic.fillPlainTiles(200);
+        logic.addLadder(150, 10);
+        assertEquals(160, logic.resolveLanding(150));
+        assertThrows(IllegalArgumentException.class, () -> logic.addLadder(160, -10));
+    }
+
     /**
      * Tests retrieving the map of all ladders on the board.
      */
@@ -114,4 +153,171 @@ class LadderTileLogicTest {
         Map<Integer, Integer> ladderMap = logic.getLadderMap();
         assertTrue(ladderMap.isEmpty());
     }
+
+    /**
+     * Tests that landing on a ladder resolves to the ladder's destination.
+     */
+    @Test
+    void testResolveLandingOnLadder() {
+        LadderTileLogic logic = new LadderTileLogic();
+        initializeBoard(logic, 100);
+        logic.addLadder(5, 10);
+        logic.addLadder(40, -20);
+
+        assertEquals(15, logic.resolveLanding(5));
+        assertEquals(20, logic.resolveLanding(40));
+        assertEquals(6, logic.resolveLanding(6));
+    }
+
+    /**
+     * Tests that overshooting the last tile bounces back and then applies a ladder.
+     */
+    @Test
+    void testResolveLandingBouncesBack() {
+        LadderTileLogic logic = new LadderTileLogic();
+        initializeBoard(logic, 100);
+        logic.addLadder(97, -50);
+
+        assertEquals(98, logic.resolveLanding(102));
+        assertEquals(47, logic.resolveLanding(103));
+        assertEquals(100, logic.resolveLanding(100));
+    }
+
+    /**
+     * Tests that the landing table reflects ladders added after it was first used.
+     */
+    @Test
+    void testResolveLandingAfterAddingLadder() {
+        LadderTileLogic logic = new LadderTileLogic();
+        initializeBoard(logic, 100);
+        assertEquals(30, logic.resolveLanding(30));
+
+        logic.addLadder(30, 25);
+        assertEquals(55, logic.resolveLanding(30));
+    }
+
+    /**
+     * Tests cycle detection along a long chain of ladders on a 1000-tile board.
+     */
+    @Test
+    void testAddCircularLadderAlongLongChain() {
+        LadderTileLogic logic = new LadderTileLogic();
+        initializeBoard(logic, 1000);
+        for (int tile = 1; tile < 1000; tile += 2) {
+            logic.addLadder(tile, 1);
+        }
+        for (int tile = 2; tile < 998; tile += 2) {
+            logic.addLadder(tile, 1);
+        }
+        assertThrows(IllegalArgumentException.class, () -> logic.addLadder(998, -97));
+        logic.addLadder(998, 2);
+        assertEquals(1000, logic.getTileByNumber(998).getEffect() + 998);
+    }
+
+    /**
+     * Tests that ladders placed directly with addTile are part of the cycle check.
+     */
+    @Test
+    void testAddCircularLadderAfterAddTile() {
+        LadderTileLogic logic = new LadderTileLogic();
+        initializeBoard(logic, 100);
+        logic.addLadder(5, 10);
+        logic.addTile(new LadderTile(15, 10));
+        assertThrows(IllegalArgumentException.class, () -> logic.addLadder(25, -20));
+    }
+
+    /**
+     * Tests that the ladder snapshot is reused until a ladder is added.
+     */
+    @Test
+    void testLadderSnapshotIsCachedUntilLadderAdded() {
+        LadderTileLogic logic = new LadderTileLogic();
+        initializeBoard(logic, 100);
+        logic.addLadder(3, 5);
+
+        LadderSnapshot first = logic.getLadderSnapshot();
+        assertSame(first, logic.getLadderSnapshot());
+        assertThrows(UnsupportedOperationException.class, () -> logic.getLadderMap().put(9, 1));
+
+        logic.addLadder(7, -3);
+        LadderSnapshot second = logic.getLadderSnapshot();
+        assertNotSame(first, second);
+        assertEquals(1, first.getLadderMap().size());
+        assertEquals(2, second.getLadderMap().size());
+    }
+
+    /**
+     * Tests looking up ladders by their start and end tiles.
+     */
+    @Test
+    void testLadderSnapshotReverseIndex() {
+        LadderTileLogic logic = new LadderTileLogic();
+        initializeBoard(logic, 100);
+        logic.addLadder(3, 5);
+        logic.addLadder(20, -10);
+
+        LadderSnapshot ladders = logic.getLadderSnapshot();
+        assertEquals(5, ladders.getLadderEffect(3));
+        assertEquals(-10, ladders.getLadderEffect(20));
+        assertEquals(0, ladders.getLadderEffect(8));
+        assertEquals(3, ladders.getLadderStartEndingAt(8));
+        assertEquals(20, ladders.getLadderStartEndingAt(10));
+        assertEquals(0, ladders.getLadderStartEndingAt(50));
+    }
+
+    /**
+     * Tests that a frozen board is an independent copy that rejects changes.
+     */
+    @Test
+    void testFreeze() {
+        LadderTileLogic logic = new LadderTileLogic();
+        initializeBoard(logic, 100);
+        logic.addLadder(5, 10);
+
+        LadderTileLogic frozen = logic.freeze();
+        assertTrue(frozen.isFrozen());
+        assertFalse(logic.isFrozen());
+        assertSame(frozen, frozen.freeze());
+        assertThrows(IllegalStateException.class, () -> frozen.addLadder(20, 5));
+        assertThrows(IllegalStateException.class, () -> frozen.addTile(new LadderTile(101, 0)));
+
+        logic.addLadder(20, 5);
+        assertEquals(25, logic.resolveLanding(20));
+        assertEquals(20, frozen.resolveLanding(20));
+        assertEquals(15, frozen.resolveLanding(5));
+        assertEquals(Map.of(5, 10), frozen.getLadderMap());
+    }
+
+    /**
+     * Tests that one frozen board gives the same answers to many threads at once.
+     */
+    @Test
+    void testFrozenBoardSharedBetweenThreads() throws Exception {
+        LadderTileLogic logic = new LadderTileLogic();
+        initializeBoard(logic, 100);
+        logic.addLadder(2, 32);
+        logic.addLadder(98, -60);
+        LadderTileLogic frozen = logic.freeze();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                results.add(executor.submit(() -> {
+                    boolean ok = true;
+                    for (int round = 0; round < 10_000; round++) {
+                        ok &= frozen.resolveLanding(2) == 34;
+                        ok &= frozen.resolveLanding(102) == 38;
+                        ok &= frozen.getLadderSnapshot().getLadderEffect(98) == -60;
+                    }
+                    return ok;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package tiles;
 
+import modell.tiles.LadderTile;
 import modell.tiles.Tile;
 import modell.tiles.TileLogic;
 import org.junit.jupiter.api.Test;
@@ -131,4 +132,60 @@ class TileLogicTest {
         assertEquals(1, tiles.get(0).getTileNumber());
         assertEquals(2, tiles.get(1).getTileNumber());
     }
+
+    /**
+     * Tests that tiles beyond the initial table size are stored and returned by tile number.
+     */
+    @Test
+    void testAddTilesOutOfOrderBeyondInitialCapacity() {
+        TestTileLogic logic = new TestTileLogic();
+        logic.addTile(new TestTile(1000, 0));
+        logic.addTile(new TestTile(3, 0));
+        logic.addTile(new TestTile(250, 4));
+
+        assertEquals(3, logic.getBoardSize());
+        assertEquals(4, logic.getTileByNumber(250).getEffect());
+        assertNull(logic.getTileByNumber(1001));
+
+        List<Tile> tiles = logic.getTiles();
+        assertEquals(3, tiles.get(0).getTileNumber());
+        assertEquals(250, tiles.get(1).getTileNumber());
+        assertEquals(1000, tiles.get(2).getTileNumber());
+    }
+
+    /**
+     * Tests that plain squares are represented implicitly and can be overridden.
+     */
+    @Test
+    void testFillPlainTiles() {
+        TestTileLogic logic = new TestTileLogic();
+        logic.addTile(new TestTile(5, 3));
+        logic.fillPlainTiles(10);
+
+        assertEquals(10, logic.getBoardSize());
+        assertEquals(3, logic.getTileByNumber(5).getEffect());
+        assertEquals(0, logic.getTileByNumber(6).getEffect());
+        assertNull(logic.getTileByNumber(11));
+
+        logic.addTile(new TestTile(6, 2));
+        assertEquals(10, logic.getBoardSize());
+        assertEquals(2, logic.getTileByNumber(6).getEffect());
+        assertEquals(10, logic.getTiles().size());
+    }
+
+    /**
+     * Tests that plain squares on different boards share the same tile instance.
+     */
+    @Test
+    void testPlainTilesAreShared() {
+        TestTileLogic first = new TestTileLogic();
+        TestTileLogic second = new TestTileLogic();
+        first.fillPlainTiles(100);
+        second.addTile(new LadderTile(1, 0));
+        second.addTile(new LadderTile(2, 0));
+
+        assertEquals(2, second.getBoardSize());
+        assertSame(first.getTileByNumber(2), second.getTileByNumber(2));
+        assertSame(LadderTile.plain(2), first.getTileByNumber(2));
+    }
 }
\ No newline at end of file